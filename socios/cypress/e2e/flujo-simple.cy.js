@@ -9,7 +9,7 @@ describe('Pruebas Simplificadas - Flujo Básico', () => {
     // Llenar formulario
     cy.llenarFormularioSocio({
       tipoIdentificacion: 'CEDULA',
-      identificacion: '1712345678',
+      identificacion: '1712345675',
       nombres: 'Juan',
       apellidos: 'Pérez',
       email: 'juan@test.com'
@@ -20,13 +20,13 @@ describe('Pruebas Simplificadas - Flujo Básico', () => {
 
     // Verificar creación exitosa
     cy.contains('Socio creado exitosamente').should('be.visible')
-    cy.verificarSocioEnTabla('1712345678')
+    cy.verificarSocioEnTabla('1712345675')
   })
 
   it('Flujo simple: Buscar socio', () => {
     // Crear socio usando la API
     cy.crearSocio({
-      identificacion: '1723456789',
+      identificacion: '1723456784',
       nombres: 'María',
       apellidos: 'López'
     })
@@ -34,7 +34,7 @@ describe('Pruebas Simplificadas - Flujo Básico', () => {
     cy.reload()
 
     // Buscar el socio
-    cy.get('#buscarIdentificacion').type('1723456789')
+    cy.get('#buscarIdentificacion').type('1723456784')
     cy.contains('🔍 Buscar').click()
 
     // Verificar resultado
@@ -45,7 +45,7 @@ describe('Pruebas Simplificadas - Flujo Básico', () => {
   it('Flujo simple: Editar socio', () => {
     // Crear socio
     cy.crearSocio({
-      identificacion: '1734567890',
+      identificacion: '1734567892',
       nombres: 'Carlos',
       apellidos: 'García'
     })
@@ -53,7 +53,7 @@ describe('Pruebas Simplificadas - Flujo Básico', () => {
     cy.reload()
 
     // Editar
-    cy.contains('tr', '1734567890').find('button').contains('✏️').click()
+    cy.contains('tr', '1734567892').find('button').contains('✏️').click()
     cy.get('#nombres').clear().type('Carlos Alberto')
     cy.get('#socioForm').submit()
 
@@ -15,7 +15,7 @@ describe('Sistema de Gestión de Socios - Flujo Completo', () => {
     it('Debe crear un nuevo socio exitosamente', () => {
       // Llenar el formulario
       cy.get('#tipoIdentificacion').select('CEDULA')
-      cy.get('#identificacion').type('1712345678')
+      cy.get('#identificacion').type('1712345675')
       cy.get('#nombres').type('Juan Carlos')
       cy.get('#apellidos').type('Pérez García')
       cy.get('#email').type('juan.perez@test.com')
@@ -29,7 +29,7 @@ describe('Sistema de Gestión de Socios - Flujo Completo', () => {
       cy.contains('Socio creado exitosamente').should('be.visible')
 
       // Verificar que el socio aparezca en la tabla
-      cy.contains('1712345678').should('be.visible')
+      cy.contains('1712345675').should('be.visible')
       cy.contains('Juan Carlos').should('be.visible')
       cy.contains('Pérez García').should('be.visible')
 
@@ -40,7 +40,7 @@ describe('Sistema de Gestión de Socios - Flujo Completo', () => {
 
     it('Debe mostrar error al crear socio con identificación duplicada', () => {
       // Crear primer socio
-      cy.get('#identificacion').type('1712345678')
+      cy.get('#identificacion').type('1712345675')
       cy.get('#nombres').type('Juan')
       cy.get('#apellidos').type('Pérez')
       cy.get('#socioForm').submit()
@@ -50,7 +50,7 @@ describe('Sistema de Gestión de Socios - Flujo Completo', () => {
       cy.contains('Limpiar').click()
 
       // Intentar crear socio con misma identificación
-      cy.get('#identificacion').type('1712345678')
+      cy.get('#identificacion').type('1712345675')
       cy.get('#nombres').type('María')
       cy.get('#apellidos').type('López')
       cy.get('#socioForm').submit()
@@ -71,14 +71,14 @@ describe('Sistema de Gestión de Socios - Flujo Completo', () => {
 
     it('Debe crear socio con tipo RUC', () => {
       cy.get('#tipoIdentificacion').select('RUC')
-      cy.get('#identificacion').type('1791234567001')
+      cy.get('#identificacion').type('1791234561001')
       cy.get('#nombres').type('María')
       cy.get('#apellidos').type('López')
       cy.get('#email').type('maria.lopez@test.com')
       cy.get('#socioForm').submit()
 
       cy.contains('Socio creado exitosamente').should('be.visible')
-      cy.contains('1791234567001').should('be.visible')
+      cy.contains('1791234561001').should('be.visible')
     })
   })
 
@@ -86,9 +86,9 @@ describe('Sistema de Gestión de Socios - Flujo Completo', () => {
     beforeEach(() => {
       // Crear socios de prueba
       const socios = [
-        { identificacion: '1712345678', nombres: 'Juan', apellidos: 'Pérez' },
-        { identificacion: '1723456789', nombres: 'María', apellidos: 'López' },
-        { identificacion: '1734567890', nombres: 'Carlos', apellidos: 'García' }
+        { identificacion: '1712345675', nombres: 'Juan', apellidos: 'Pérez' },
+        { identificacion: '1723456784', nombres: 'María', apellidos: 'López' },
+        { identificacion: '1734567892', nombres: 'Carlos', apellidos: 'García' }
       ]
 
       socios.forEach(socio => {
@@ -104,7 +104,7 @@ describe('Sistema de Gestión de Socios - Flujo Completo', () => {
 
     it('Debe buscar socio por identificación exitosamente', () => {
       // Buscar por identificación
-      cy.get('#buscarIdentificacion').type('1712345678')
+      cy.get('#buscarIdentificacion').type('1712345675')
       cy.contains('🔍 Buscar').click()
 
       // Verificar que solo aparezca el socio buscado
@@ -122,7 +122,7 @@ describe('Sistema de Gestión de Socios - Flujo Completo', () => {
 
     it('Debe mostrar todos los socios al hacer clic en "Mostrar Todos"', () => {
       // Primero buscar uno
-      cy.get('#buscarIdentificacion').type('1712345678')
+      cy.get('#buscarIdentificacion').type('1712345675')
       cy.contains('🔍 Buscar').click()
       cy.get('#tablaSocios tr').should('have.length', 1)
 
@@ -136,7 +136,7 @@ describe('Sistema de Gestión de Socios - Flujo Completo', () => {
     beforeEach(() => {
       // Crear un socio de prueba
       cy.request('POST', Cypress.env('apiUrl'), {
-        identificacion: '1712345678',
+        identificacion: '1712345675',
         nombres: 'Juan',
         apellidos: 'Pérez',
         email: 'juan.perez@test.com',
@@ -149,10 +149,10 @@ describe('Sistema de Gestión de Socios - Flujo Completo', () => {
 
     it('Debe editar un socio exitosamente', () => {
       // Hacer clic en el botón de editar
-      cy.contains('tr', '1712345678').find('button').contains('✏️').click()
+      cy.contains('tr', '1712345675').find('button').contains('✏️').click()
 
       // Verificar que el formulario se llene con los datos del socio
-      cy.get('#identificacion').should('have.value', '1712345678')
+      cy.get('#identificacion').should('have.value', '1712345675')
       cy.get('#nombres').should('have.value', 'Juan')
 
       // Verificar mensaje de modo edición
@@ -177,7 +177,7 @@ describe('Sistema de Gestión de Socios - Flujo Completo', () => {
     beforeEach(() => {
       // Crear un socio de prueba
       cy.request('POST', Cypress.env('apiUrl'), {
-        identificacion: '1712345678',
+        identificacion: '1712345675',
         nombres: 'Juan',
         apellidos: 'Pérez',
         tipoIdentificacion: 'CEDULA'
@@ -192,16 +192,16 @@ describe('Sistema de Gestión de Socios - Flujo Completo', () => {
       })
 
       // Verificar que el socio existe
-      cy.contains('1712345678').should('be.visible')
+      cy.contains('1712345675').should('be.visible')
 
       // Hacer clic en eliminar
-      cy.contains('tr', '1712345678').find('button').contains('🗑️').click()
+      cy.contains('tr', '1712345675').find('button').contains('🗑️').click()
 
       // Verificar mensaje de éxito
       cy.contains('Socio eliminado exitosamente').should('be.visible')
 
       // Verificar que el socio ya no aparezca
-      cy.contains('1712345678').should('not.exist')
+      cy.contains('1712345675').should('not.exist')
       cy.get('#totalSocios').should('contain', '0')
     })
 
@@ -212,10 +212,10 @@ describe('Sistema de Gestión de Socios - Flujo Completo', () => {
       })
 
       // Hacer clic en eliminar
-      cy.contains('tr', '1712345678').find('button').contains('🗑️').click()
+      cy.contains('tr', '1712345675').find('button').contains('🗑️').click()
 
       // Verificar que el socio siga existiendo
-      cy.contains('1712345678').should('be.visible')
+      cy.contains('1712345675').should('be.visible')
       cy.get('#totalSocios').should('contain', '1')
     })
   })
@@ -224,9 +224,9 @@ describe('Sistema de Gestión de Socios - Flujo Completo', () => {
     it('Debe actualizar las estadísticas correctamente', () => {
       // Crear varios socios
       const socios = [
-        { identificacion: '1712345678', nombres: 'Juan', apellidos: 'Pérez' },
-        { identificacion: '1723456789', nombres: 'María', apellidos: 'López' },
-        { identificacion: '1734567890', nombres: 'Carlos', apellidos: 'García' }
+        { identificacion: '1712345675', nombres: 'Juan', apellidos: 'Pérez' },
+        { identificacion: '1723456784', nombres: 'María', apellidos: 'López' },
+        { identificacion: '1734567892', nombres: 'Carlos', apellidos: 'García' }
       ]
 
       socios.forEach((socio, index) => {
@@ -251,7 +251,7 @@ describe('Sistema de Gestión de Socios - Flujo Completo', () => {
   describe('Limpiar Formulario', () => {
     it('Debe limpiar todos los campos del formulario', () => {
       // Llenar el formulario
-      cy.get('#identificacion').type('1712345678')
+      cy.get('#identificacion').type('1712345675')
       cy.get('#nombres').type('Juan')
       cy.get('#apellidos').type('Pérez')
       cy.get('#email').type('juan@test.com')
@@ -270,7 +270,7 @@ describe('Sistema de Gestión de Socios - Flujo Completo', () => {
   describe('Flujo Completo E2E', () => {
     it('Debe completar el flujo completo: crear, buscar, editar y eliminar', () => {
       // 1. CREAR
-      cy.get('#identificacion').type('1712345678')
+      cy.get('#identificacion').type('1712345675')
       cy.get('#nombres').type('Juan')
       cy.get('#apellidos').type('Pérez')
       cy.get('#email').type('juan.perez@test.com')
@@ -279,13 +279,13 @@ describe('Sistema de Gestión de Socios - Flujo Completo', () => {
       cy.get('#totalSocios').should('contain', '1')
 
       // 2. BUSCAR
-      cy.get('#buscarIdentificacion').type('1712345678')
+      cy.get('#buscarIdentificacion').type('1712345675')
       cy.contains('🔍 Buscar').click()
       cy.contains('Juan').should('be.visible')
 
       // 3. EDITAR
       cy.contains('📋 Mostrar Todos').click()
-      cy.contains('tr', '1712345678').find('button').contains('✏️').click()
+      cy.contains('tr', '1712345675').find('button').contains('✏️').click()
       cy.get('#nombres').clear().type('Juan Carlos')
       cy.get('#socioForm').submit()
       cy.contains('Socio actualizado exitosamente').should('be.visible')
@@ -295,7 +295,7 @@ describe('Sistema de Gestión de Socios - Flujo Completo', () => {
       cy.window().then((win) => {
         cy.stub(win, 'confirm').returns(true)
       })
-      cy.contains('tr', '1712345678').find('button').contains('🗑️').click()
+      cy.contains('tr', '1712345675').find('button').contains('🗑️').click()
       cy.contains('Socio eliminado exitosamente').should('be.visible')
       cy.get('#totalSocios').should('contain', '0')
     })
@@ -305,7 +305,7 @@ describe('Sistema de Gestión de Socios - Flujo Completo', () => {
     it('Debe ser responsivo en diferentes tamaños de pantalla', () => {
       // Crear un socio
       cy.request('POST', Cypress.env('apiUrl'), {
-        identificacion: '1712345678',
+        identificacion: '1712345675',
         nombres: 'Juan',
         apellidos: 'Pérez',
         tipoIdentificacion: 'CEDULA'
@@ -328,7 +328,7 @@ describe('Sistema de Gestión de Socios - Flujo Completo', () => {
 
     it('Debe mostrar badges de estado correctamente', () => {
       cy.request('POST', Cypress.env('apiUrl'), {
-        identificacion: '1712345678',
+        identificacion: '1712345675',
         nombres: 'Juan',
         apellidos: 'Pérez',
         tipoIdentificacion: 'CEDULA'
@@ -336,7 +336,7 @@ describe('Sistema de Gestión de Socios - Flujo Completo', () => {
       cy.reload()
 
       // Verificar badge de activo
-      cy.contains('tr', '1712345678')
+      cy.contains('tr', '1712345675')
         .find('.badge-success')
         .should('contain', 'Activo')
     })
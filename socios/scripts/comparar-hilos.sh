@@ -0,0 +1,67 @@
+#!/bin/bash
+
+# ============================================
+# Comparación de hilos de plataforma vs hilos virtuales
+# ============================================
+# Requiere: PostgreSQL en localhost:5432 (docker-compose.yml), el jar compilado
+# (./mvnw package -DskipTests) y "hey" (https://github.com/rakyll/hey).
+#
+# Uso: ./scripts/comparar-hilos.sh [concurrencia] [duracion]
+#   concurrencia  clientes simultáneos (por defecto 400)
+#   duracion      duración de cada corrida (por defecto 60s)
+# ============================================
+
+set -e
+
+CONCURRENCIA=${1:-400}
+DURACION=${2:-60s}
+PUERTO=8080
+JAR=$(ls target/socios-*.jar | head -n 1)
+BASE_URL="http://localhost:${PUERTO}/api/socios"
+
+esperar_inicio() {
+    for _ in $(seq 1 60); do
+        if curl -sf "http://localhost:${PUERTO}/actuator/health" > /dev/null; then
+            return 0
+        fi
+        sleep 1
+    done
+    echo "❌ La aplicación no inició a tiempo"
+    exit 1
+}
+
+medir() {
+    local nombre=$1
+    local perfiles=$2
+
+    echo "=================================================="
+    echo "  ${nombre} (perfiles: ${perfiles})"
+    echo "=================================================="
+
+    java -Xmx512m -jar "$JAR" --spring.profiles.active="$perfiles" --server.port=$PUERTO \
+        --spring.jpa.show-sql=false > "target/carga-${nombre}.log" 2>&1 &
+    local pid=$!
+    esperar_inicio
+
+    # Un socio conocido para las lecturas por identificación
+    local identificacion
+    identificacion=$(curl -s "${BASE_URL}?size=1" | sed -n 's/.*"identificacion":"\([0-9]*\)".*/\1/p')
+
+    # Calentamiento
+    hey -z 10s -c 50 "${BASE_URL}/identificacion/${identificacion}" > /dev/null
+
+    # Mezcla de lecturas: detalle por identificación y páginas del listado
+    hey -z "$DURACION" -c "$CONCURRENCIA" "${BASE_URL}/identificacion/${identificacion}" \
+        | tee "target/carga-${nombre}-identificacion.txt" | grep -E "Requests/sec|99%|Status code" -A3
+    hey -z "$DURACION" -c "$CONCURRENCIA" "${BASE_URL}?size=50" \
+        | tee "target/carga-${nombre}-listado.txt" | grep -E "Requests/sec|99%|Status code" -A3
+
+    kill $pid
+    wait $pid 2>/dev/null || true
+}
+
+medir plataforma default
+medir virtuales default,virtual
+
+echo ""
+echo "Resultados completos en target/carga-*.txt (registrar en RENDIMIENTO.md)"
@@ -0,0 +1,164 @@
+#!/bin/bash
+
+# ============================================
+# Prueba de humo y comparación: imagen nativa vs JVM
+# ============================================
+# Arranca cada variante con el perfil docker contra PostgreSQL local, mide el tiempo hasta que
+# /actuator/health responde y la memoria residente (RSS), y ejercita los caminos que dependen de
+# reflexión: Jackson (JSON, lote y CSV), Bean Validation, Hibernate, springdoc y Prometheus.
+#
+# Requiere: PostgreSQL en localhost:5432 (docker-compose.yml) y los dos artefactos:
+#   ./mvnw -DskipTests package                  -> target/socios-*.jar
+#   ./mvnw -Pnative -DskipTests native:compile  -> target/socios (GraalVM 21+)
+#
+# Uso: ./scripts/comparar-nativo.sh [solicitudes]
+#   solicitudes  lecturas para medir la RSS con tráfico (por defecto 2000)
+# ============================================
+
+set -e
+
+SOLICITUDES=${1:-2000}
+PUERTO=8080
+JAR=$(ls target/socios-*.jar | grep -v plain | head -n 1)
+NATIVO=target/socios
+BASE_URL="http://localhost:${PUERTO}"
+RESULTADOS=target/nativo-comparacion.txt
+PID=""
+
+export SPRING_PROFILES_ACTIVE=docker
+export SPRING_DATASOURCE_URL=${SPRING_DATASOURCE_URL:-jdbc:postgresql://localhost:5432/cooperativa_socios}
+export SERVER_PORT=$PUERTO
+export SOCIOS_OUTBOX_ARCHIVO=target/socios-eventos-smoke.ndjson
+
+if [ ! -x "$NATIVO" ]; then
+    echo "❌ No existe $NATIVO: ./mvnw -Pnative -DskipTests native:compile"
+    exit 1
+fi
+
+# Cédula válida (módulo 10) de Pichincha a partir de 6 dígitos aleatorios
+cedula() {
+    local base
+    base="171$(printf '%06d' $((RANDOM * 32768 % 1000000)))"
+    local suma=0
+    for i in $(seq 0 8); do
+        local producto=$(( ${base:$i:1} * (i % 2 == 0 ? 2 : 1) ))
+        suma=$(( suma + (producto > 9 ? producto - 9 : producto) ))
+    done
+    echo "${base}$(( (10 - suma % 10) % 10 ))"
+}
+
+# Si una verificación falla (set -e) no queda la aplicación corriendo
+detener() {
+    if [ -n "$PID" ]; then
+        kill "$PID" 2>/dev/null || true
+        wait "$PID" 2>/dev/null || true
+    fi
+    PID=""
+}
+trap detener EXIT
+
+rss_kb() {
+    ps -o rss= -p "$1" | tr -d ' '
+}
+
+# Falla si el código HTTP no es el esperado; deja el cuerpo en target/smoke-respuesta.txt
+verificar() {
+    local esperado=$1
+    local descripcion=$2
+    shift 2
+    local codigo
+    codigo=$(curl -s -o target/smoke-respuesta.txt -w '%{http_code}' "$@")
+    if [ "$codigo" != "$esperado" ]; then
+        echo "❌ ${descripcion}: HTTP ${codigo} (esperado ${esperado})"
+        cat target/smoke-respuesta.txt
+        echo ""
+        return 1
+    fi
+    echo "   ✓ ${descripcion}"
+}
+
+humo() {
+    local identificacion
+    identificacion=$(cedula)
+    local socio="{\"identificacion\":\"${identificacion}\",\"tipoIdentificacion\":\"CEDULA\",\"nombres\":\"Humo\",\"apellidos\":\"Nativo\",\"email\":\"humo.${identificacion}@test.com\",\"telefono\":\"0987654321\"}"
+
+    verificar 201 "Crear socio" -X POST "${BASE_URL}/api/socios" -H 'Content-Type: application/json' -d "$socio"
+    local id
+    id=$(sed -n 's/.*"id":"\([0-9a-f-]*\)".*/\1/p' target/smoke-respuesta.txt)
+
+    verificar 200 "Obtener por id" "${BASE_URL}/api/socios/${id}"
+    verificar 200 "Obtener por identificación" "${BASE_URL}/api/socios/identificacion/${identificacion}"
+    verificar 400 "Validación de dígito verificador" -X POST "${BASE_URL}/api/socios" \
+        -H 'Content-Type: application/json' -d "${socio//${identificacion}/1712345678}"
+    verificar 200 "Listado paginado" "${BASE_URL}/api/socios?size=10"
+    verificar 200 "Creación en lote" -X POST "${BASE_URL}/api/socios/batch" \
+        -H 'Content-Type: application/json' -d "[${socio//${identificacion}/$(cedula)}]"
+    if ! grep -q '"estado":"CREADO"' target/smoke-respuesta.txt; then
+        echo "❌ Creación en lote: el socio no se creó"
+        cat target/smoke-respuesta.txt
+        echo ""
+        return 1
+    fi
+    verificar 200 "Exportación CSV" "${BASE_URL}/api/socios/exportar?formato=csv"
+    verificar 200 "OpenAPI (springdoc)" "${BASE_URL}/api-docs"
+    verificar 200 "Swagger UI" -L "${BASE_URL}/swagger-ui.html"
+    verificar 200 "Métricas Prometheus" "${BASE_URL}/actuator/prometheus"
+    verificar 204 "Eliminar socio" -X DELETE "${BASE_URL}/api/socios/${id}"
+
+    # Tráfico de lectura para medir la RSS en régimen, no solo recién arrancado
+    for _ in $(seq 1 "$SOLICITUDES"); do
+        curl -s -o /dev/null "${BASE_URL}/api/socios?size=50"
+    done
+}
+
+medir() {
+    local nombre=$1
+    shift
+
+    echo "=================================================="
+    echo "  ${nombre}"
+    echo "=================================================="
+
+    local inicio
+    inicio=$(date +%s%N)
+    "$@" > "target/smoke-${nombre}.log" 2>&1 &
+    PID=$!
+
+    local listo=""
+    for _ in $(seq 1 1200); do
+        if curl -sf "${BASE_URL}/actuator/health" > /dev/null; then
+            listo=$(( ($(date +%s%N) - inicio) / 1000000 ))
+            break
+        fi
+        sleep 0.05
+    done
+    if [ -z "$listo" ]; then
+        echo "❌ ${nombre} no inició a tiempo (ver target/smoke-${nombre}.log)"
+        exit 1
+    fi
+
+    local rss_inicio
+    rss_inicio=$(rss_kb $PID)
+    local arranque
+    arranque=$(sed -n 's/.*Started SociosApplication in \([0-9.]*\) seconds.*/\1/p' "target/smoke-${nombre}.log")
+
+    humo
+    local rss_trafico
+    rss_trafico=$(rss_kb $PID)
+    detener
+
+    printf "%-8s %12s %14s %16s %18s\n" "$nombre" "${listo} ms" "${arranque:-?} s" \
+        "$((rss_inicio / 1024)) MB" "$((rss_trafico / 1024)) MB" >> "$RESULTADOS"
+}
+
+mkdir -p target
+printf "%-8s %12s %14s %16s %18s\n" "Variante" "Health UP" "Spring (log)" "RSS al iniciar" "RSS con tráfico" > "$RESULTADOS"
+
+# Mismo límite de heap que el Dockerfile para que la comparación sea la del contenedor
+medir jvm java -Xmx512m -Xms256m -XX:MaxMetaspaceSize=128m -XX:+UseG1GC -jar "$JAR"
+medir nativo "$NATIVO" -Xmx512m
+
+echo ""
+cat "$RESULTADOS"
+echo ""
+echo "Resultados en ${RESULTADOS} (registrar en RENDIMIENTO.md)"
@@ -1,9 +1,7 @@
 package ec.fin.coacandes.socios;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.context.annotation.Bean;
 
 @SpringBootApplication
 public class SociosApplication {
@@ -11,9 +9,4 @@ public class SociosApplication {
 	public static void main(String[] args) {
 		SpringApplication.run(SociosApplication.class, args);
 	}
-
-    @Bean
-    public ModelMapper modelMapper() {
-        return new ModelMapper();
-    }
 }
@@ -0,0 +1,17 @@
+package ec.fin.coacandes.socios.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Caché en memoria (Caffeine) para las consultas de socios por id e identificación.
+ * El tamaño y el TTL se configuran con spring.cache.caffeine.spec; las métricas se publican
+ * en /actuator/metrics/cache.gets, cache.evictions y cache.size.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String SOCIOS_POR_ID = "sociosPorId";
+    public static final String SOCIOS_POR_IDENTIFICACION = "sociosPorIdentificacion";
+}
@@ -0,0 +1,25 @@
+package ec.fin.coacandes.socios.config;
+
+/**
+ * Indica, para el hilo de la petición en curso, si las transacciones de solo lectura deben ir al primario
+ * en lugar de la réplica (lecturas de la propia escritura).
+ */
+public final class ConsistenciaLectura {
+
+    private static final ThreadLocal<Boolean> PRIMARIO = new ThreadLocal<>();
+
+    private ConsistenciaLectura() {
+    }
+
+    public static void leerDelPrimario() {
+        PRIMARIO.set(Boolean.TRUE);
+    }
+
+    public static boolean debeLeerDelPrimario() {
+        return PRIMARIO.get() != null;
+    }
+
+    public static void limpiar() {
+        PRIMARIO.remove();
+    }
+}
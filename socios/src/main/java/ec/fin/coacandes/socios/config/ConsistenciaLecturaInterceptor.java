@@ -0,0 +1,72 @@
+package ec.fin.coacandes.socios.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.time.Duration;
+
+/**
+ * Decide por petición si las lecturas pueden ir a la réplica.
+ * <ul>
+ *     <li>Las peticiones que escriben leen siempre del primario: con open-in-view la conexión se conserva
+ *     durante toda la petición y una lectura previa no debe fijarla a la réplica.</li>
+ *     <li>Con lecturas de la propia escritura habilitadas, la respuesta de una escritura incluye
+ *     {@value #HEADER_ULTIMA_ESCRITURA}; si el cliente la reenvía dentro de la ventana, también lee del primario.</li>
+ * </ul>
+ * La marca se limpia al terminar la petición o, si el controlador responde de forma asíncrona (exportación en
+ * streaming), al liberar el hilo del contenedor; el despacho asíncrono vuelve a pasar por preHandle.
+ */
+public class ConsistenciaLecturaInterceptor implements AsyncHandlerInterceptor {
+
+    public static final String HEADER_ULTIMA_ESCRITURA = "X-Last-Write";
+
+    private final boolean leerEscrituras;
+    private final Duration ventana;
+
+    public ConsistenciaLecturaInterceptor(boolean leerEscrituras, Duration ventana) {
+        this.leerEscrituras = leerEscrituras;
+        this.ventana = ventana;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (esEscritura(request)) {
+            ConsistenciaLectura.leerDelPrimario();
+            if (leerEscrituras) {
+                response.setHeader(HEADER_ULTIMA_ESCRITURA, Long.toString(System.currentTimeMillis()));
+            }
+        } else if (leerEscrituras && escrituraReciente(request.getHeader(HEADER_ULTIMA_ESCRITURA))) {
+            ConsistenciaLectura.leerDelPrimario();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        ConsistenciaLectura.limpiar();
+    }
+
+    // Con un controlador asíncrono afterCompletion no se ejecuta en este hilo, que vuelve al pool
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        ConsistenciaLectura.limpiar();
+    }
+
+    private static boolean esEscritura(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod());
+    }
+
+    private boolean escrituraReciente(String ultimaEscritura) {
+        if (ultimaEscritura == null) {
+            return false;
+        }
+        try {
+            long transcurrido = System.currentTimeMillis() - Long.parseLong(ultimaEscritura.trim());
+            return transcurrido < ventana.toMillis();
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
@@ -5,15 +5,22 @@ import ec.fin.coacandes.socios.repository.SocioRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
 import org.springframework.context.event.EventListener;
 import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
 import java.util.Random;
 
+// Datos de demostración. Se desactiva con socios.datos-iniciales.habilitado=false (por defecto en el
+// perfil docker: corre antes de que el servicio se declare listo) y no aplica con el perfil de carga
 @Component
+@Profile("!carga")
+@ConditionalOnProperty(name = "socios.datos-iniciales.habilitado", havingValue = "true", matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
 public class DataLoaderEventListener {
@@ -34,39 +41,39 @@ public class DataLoaderEventListener {
 
                 List<Socio> socios = List.of(
                         // 15 Personas Naturales (Cédula)
-                        crearSocio("1712345678", "Juan Carlos", "Pérez González",
+                        crearSocio("1712345675", "Juan Carlos", "Pérez González",
                                 "juan.perez@gmail.com", "0987654321",
                                 "Av. Amazonas N23-45", "CEDULA", true),
 
-                        crearSocio("1723456789", "María José", "Rodríguez López",
+                        crearSocio("1723456784", "María José", "Rodríguez López",
                                 "maria.rodriguez@outlook.com", "0998765432",
                                 "Calle Roca 456", "CEDULA", true),
 
-                        crearSocio("1734567890", "Carlos Andrés", "García Martínez",
+                        crearSocio("1734567892", "Carlos Andrés", "García Martínez",
                                 "carlos.garcia@yahoo.com", "0976543210",
                                 "Av. 6 de Diciembre 789", "CEDULA", true),
 
-                        crearSocio("1745678901", "Ana Lucía", "Fernández Sánchez",
+                        crearSocio("1745678902", "Ana Lucía", "Fernández Sánchez",
                                 "ana.fernandez@gmail.com", "0965432109",
                                 "Calle Guayas 101", "CEDULA", true),
 
-                        crearSocio("1756789012", "Luis Alberto", "González Díaz",
+                        crearSocio("1756789010", "Luis Alberto", "González Díaz",
                                 "luis.gonzalez@hotmail.com", "0954321098",
                                 "Av. Shyris 202", "CEDULA", true),
 
-                        crearSocio("1767890123", "Laura Isabel", "López Ruiz",
+                        crearSocio("1707890123", "Laura Isabel", "López Ruiz",
                                 "laura.lopez@gmail.com", "0943210987",
                                 "Calle Pichincha 303", "CEDULA", true),
 
-                        crearSocio("1778901234", "Pedro Pablo", "Martínez Hernández",
+                        crearSocio("1718901232", "Pedro Pablo", "Martínez Hernández",
                                 "pedro.martinez@outlook.com", "0932109876",
                                 "Av. Naciones Unidas 404", "CEDULA", true),
 
-                        crearSocio("1789012345", "Sofía Alejandra", "Sánchez Moreno",
+                        crearSocio("1729012342", "Sofía Alejandra", "Sánchez Moreno",
                                 "sofia.sanchez@yahoo.com", "0921098765",
                                 "Calle Vargas 505", "CEDULA", true),
 
-                        crearSocio("1790123456", "José Manuel", "Pérez Muñoz",
+                        crearSocio("1740123458", "José Manuel", "Pérez Muñoz",
                                 "jose.perez@gmail.com", "0910987654",
                                 "Av. Patria 606", "CEDULA", true),
 
@@ -74,40 +81,40 @@ public class DataLoaderEventListener {
                                 "elena.gomez@hotmail.com", "0909876543",
                                 "Calle Ulloa 707", "CEDULA", true),
 
-                        crearSocio("1711122334", "Miguel Ángel", "Martín Romero",
+                        crearSocio("1711122331", "Miguel Ángel", "Martín Romero",
                                 "miguel.martin@gmail.com", "0898765432",
                                 "Av. Mariana de Jesús 808", "CEDULA", true),
 
-                        crearSocio("1722233445", "Isabel Cristina", "Jiménez Alonso",
+                        crearSocio("1722233440", "Isabel Cristina", "Jiménez Alonso",
                                 "isabel.jimenez@outlook.com", "0887654321",
                                 "Calle Whymper 909", "CEDULA", true),
 
-                        crearSocio("1733344556", "David Esteban", "Ruiz Navarro",
+                        crearSocio("1733344558", "David Esteban", "Ruiz Navarro",
                                 "david.ruiz@yahoo.com", "0876543210",
                                 "Av. 10 de Agosto 1010", "CEDULA", true),
 
-                        crearSocio("1744455667", "Carmen Rosa", "Hernández Torres",
+                        crearSocio("1744455666", "Carmen Rosa", "Hernández Torres",
                                 "carmen.hernandez@gmail.com", "0865432109",
                                 "Calle Belo Horizonte 1111", "CEDULA", true),
 
-                        crearSocio("1755566778", "Javier Antonio", "Díaz Domínguez",
+                        crearSocio("1755566773", "Javier Antonio", "Díaz Domínguez",
                                 "javier.diaz@hotmail.com", "0854321098",
                                 "Av. Eloy Alfaro 1212", "CEDULA", false), // Inactivo
 
                         // 5 Empresas (RUC)
-                        crearSocio("1791234567001", "Importadora ABC S.A.",
+                        crearSocio("1791234561001", "Importadora ABC S.A.",
                                 "Comercial", "ventas@abc.com.ec", "022345678",
                                 "Av. Amazonas N34-102", "RUC", true),
 
-                        crearSocio("1792345678001", "Distribuidora XYZ Cía. Ltda.",
+                        crearSocio("1792345677001", "Distribuidora XYZ Cía. Ltda.",
                                 "Logística", "info@xyzlogistica.com", "022456789",
                                 "Calle Robles 234", "RUC", true),
 
-                        crearSocio("1793456789001", "Tecnología Innovadora S.A.",
+                        crearSocio("1793456782001", "Tecnología Innovadora S.A.",
                                 "Tecnología", "soporte@tecnoinnov.com", "022567890",
                                 "Av. 6 de Diciembre 456", "RUC", true),
 
-                        crearSocio("1794567890001", "Constructora Edificadora S.A.",
+                        crearSocio("1794567898001", "Constructora Edificadora S.A.",
                                 "Construcción", "proyectos@constructora.com", "022678901",
                                 "Calle de los Shyris 789", "RUC", true),
 
@@ -127,8 +134,8 @@ public class DataLoaderEventListener {
             } else {
                 log.info("✅ Ya existen {} socios registrados en el sistema", count);
 
-                // Verificar datos de muestra
-                socioRepository.findAll().stream().limit(5).forEach(socio ->
+                // Verificar datos de muestra (sin recorrer la tabla completa)
+                socioRepository.findPrimeraPagina(PageRequest.ofSize(5)).forEach(socio ->
                         log.debug("📋 Socio existente: {} - {}",
                                 socio.getIdentificacion(),
                                 socio.getNombres()));
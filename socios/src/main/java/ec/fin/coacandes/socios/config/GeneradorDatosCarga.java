@@ -0,0 +1,218 @@
+package ec.fin.coacandes.socios.config;
+
+import ec.fin.coacandes.socios.entity.UuidV7Generator;
+import ec.fin.coacandes.socios.validation.IdentificacionEcuatoriana;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.nio.CharBuffer;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generador de socios sintéticos para pruebas de capacidad (perfil "carga").
+ * <p>
+ * Inserta con JDBC por lotes, en bloques paralelos, sin pasar por Hibernate, la caché ni el outbox.
+ * Cada socio se deriva de su número de secuencia: las identificaciones (con dígito verificador válido)
+ * y los emails son únicos sin consultar la base, y con la misma semilla se obtienen los mismos datos.
+ * Corre como ApplicationRunner: el servicio no se declara listo hasta terminar la carga.
+ */
+@Component
+@Profile("carga")
+@Slf4j
+public class GeneradorDatosCarga implements ApplicationRunner {
+
+    // 24 provincias x 6 valores del tercer dígito x 10^6 secuencias
+    static final long MAXIMO_SOCIOS = 24L * 6 * 1_000_000;
+
+    private static final String INSERT = """
+            INSERT INTO socios (id, identificacion, nombres, apellidos, email, telefono, direccion, activo,
+                                tipo_identificacion, fecha_creacion, fecha_actualizacion, version)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)
+            """;
+
+    private static final String[] NOMBRES = {"Juan", "María", "Carlos", "Ana", "Luis", "Sofía", "Pedro",
+            "Laura", "José", "Elena", "Miguel", "Isabel", "David", "Carmen", "Javier", "Patricia", "Andrés",
+            "Gabriela", "Diego", "Valeria"};
+    private static final String[] SEGUNDOS_NOMBRES = {"Carlos", "José", "Alberto", "Lucía", "Andrea",
+            "Manuel", "Isabel", "Fernando", "Cristina", "Esteban"};
+    private static final String[] APELLIDOS = {"Pérez", "González", "Rodríguez", "López", "Martínez",
+            "Sánchez", "García", "Torres", "Ramírez", "Castro", "Vásquez", "Morales", "Herrera", "Cevallos",
+            "Zambrano", "Andrade", "Mendoza", "Salazar", "Guerrero", "Villacís"};
+    private static final String[] CALLES = {"Av. Amazonas", "Av. 6 de Diciembre", "Calle Guayas",
+            "Av. Shyris", "Calle Pichincha", "Av. Naciones Unidas", "Av. 10 de Agosto", "Calle Whymper",
+            "Av. Eloy Alfaro", "Calle Roca"};
+    private static final String[] DOMINIOS = {"gmail.com", "outlook.com", "yahoo.com", "hotmail.com",
+            "cooperativa.com.ec"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+    private final long cantidad;
+    private final long inicio;
+    private final double proporcionActivos;
+    private final double proporcionRuc;
+    private final int hilos;
+    private final int tamanioBloque;
+    private final long semilla;
+
+    public GeneradorDatosCarga(JdbcTemplate jdbcTemplate, DataSource dataSource,
+                               @Value("${socios.carga.cantidad:1000000}") long cantidad,
+                               @Value("${socios.carga.inicio:0}") long inicio,
+                               @Value("${socios.carga.proporcion-activos:0.9}") double proporcionActivos,
+                               @Value("${socios.carga.proporcion-ruc:0.1}") double proporcionRuc,
+                               @Value("${socios.carga.hilos:4}") int hilos,
+                               @Value("${socios.carga.tamanio-bloque:10000}") int tamanioBloque,
+                               @Value("${socios.carga.semilla:42}") long semilla) {
+        if (inicio < 0 || cantidad < 0 || inicio + cantidad > MAXIMO_SOCIOS) {
+            throw new IllegalArgumentException("socios.carga: inicio + cantidad debe estar entre 0 y " + MAXIMO_SOCIOS);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSource = dataSource;
+        this.cantidad = cantidad;
+        this.inicio = inicio;
+        this.proporcionActivos = proporcionActivos;
+        this.proporcionRuc = proporcionRuc;
+        this.hilos = Math.max(1, hilos);
+        this.tamanioBloque = Math.max(1, tamanioBloque);
+        this.semilla = semilla;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        // Reinicios idempotentes: si ya hay suficientes socios no se vuelve a cargar
+        Long existentes = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM socios", Long.class);
+        if (existentes != null && existentes >= cantidad) {
+            log.info("Carga omitida: ya existen {} socios (se pidieron {})", existentes, cantidad);
+            return;
+        }
+
+        log.info("Generando {} socios en bloques de {} con {} hilos", cantidad, tamanioBloque, hilos);
+        long comienzo = System.nanoTime();
+        AtomicLong insertados = new AtomicLong();
+        LocalDateTime ahora = LocalDateTime.now();
+
+        ExecutorService ejecutor = Executors.newFixedThreadPool(hilos);
+        try {
+            List<Future<?>> bloques = new ArrayList<>();
+            for (long desde = inicio; desde < inicio + cantidad; desde += tamanioBloque) {
+                long primero = desde;
+                int filas = (int) Math.min(tamanioBloque, inicio + cantidad - desde);
+                bloques.add(ejecutor.submit(() -> {
+                    insertarBloque(primero, filas, ahora);
+                    long total = insertados.addAndGet(filas);
+                    if (total % (tamanioBloque * 20L) < filas) {
+                        log.info("Carga: {} de {} socios", total, cantidad);
+                    }
+                }));
+            }
+            for (Future<?> bloque : bloques) {
+                bloque.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Falló la generación de socios", e.getCause());
+        } finally {
+            ejecutor.shutdownNow();
+        }
+
+        double segundos = (System.nanoTime() - comienzo) / 1e9;
+        log.info("{} socios generados en {} s ({} filas/s)", insertados.get(),
+                String.format("%.1f", segundos), Math.round(insertados.get() / segundos));
+        actualizarEstadisticas();
+    }
+
+    // Un bloque es un único executeBatch en autocommit; con reWriteBatchedInserts el driver de
+    // PostgreSQL lo envía como INSERT multi-fila
+    private void insertarBloque(long primero, int filas, LocalDateTime ahora) {
+        SplittableRandom aleatorio = new SplittableRandom(semilla ^ (primero * 0x9E3779B97F4A7C15L));
+        jdbcTemplate.batchUpdate(INSERT, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                long secuencia = primero + i;
+                String nombre = NOMBRES[aleatorio.nextInt(NOMBRES.length)];
+                String apellido = APELLIDOS[aleatorio.nextInt(APELLIDOS.length)];
+                boolean ruc = aleatorio.nextDouble() < proporcionRuc;
+                String cedula = cedula(secuencia);
+                // Altas repartidas al azar en los últimos cinco años
+                LocalDateTime alta = ahora.minusMinutes(aleatorio.nextInt(5 * 365 * 24 * 60));
+
+                ps.setObject(1, UuidV7Generator.siguiente());
+                ps.setString(2, ruc ? cedula + "001" : cedula);
+                ps.setString(3, nombre + " " + SEGUNDOS_NOMBRES[aleatorio.nextInt(SEGUNDOS_NOMBRES.length)]);
+                ps.setString(4, apellido + " " + APELLIDOS[aleatorio.nextInt(APELLIDOS.length)]);
+                ps.setString(5, sinTildes(nombre + "." + apellido).toLowerCase() + "." + secuencia
+                        + "@" + DOMINIOS[aleatorio.nextInt(DOMINIOS.length)]);
+                ps.setString(6, "09" + (10_000_000 + aleatorio.nextInt(90_000_000)));
+                ps.setString(7, CALLES[aleatorio.nextInt(CALLES.length)] + " N" + (1 + aleatorio.nextInt(99))
+                        + "-" + (1 + aleatorio.nextInt(300)));
+                ps.setBoolean(8, aleatorio.nextDouble() < proporcionActivos);
+                ps.setString(9, ruc ? "RUC" : "CEDULA");
+                ps.setTimestamp(10, Timestamp.valueOf(alta));
+                ps.setTimestamp(11, Timestamp.valueOf(alta));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return filas;
+            }
+        });
+    }
+
+    /**
+     * Cédula válida y única para cada secuencia: provincia (01-24), tercer dígito de persona natural
+     * (0-5), seis dígitos de secuencia y el dígito verificador de IdentificacionEcuatoriana.
+     */
+    static String cedula(long secuencia) {
+        int provincia = 1 + (int) (secuencia % 24);
+        int tercero = (int) (secuencia / 24 % 6);
+        int resto = (int) (secuencia / 144 % 1_000_000);
+
+        char[] digitos = new char[10];
+        digitos[0] = (char) ('0' + provincia / 10);
+        digitos[1] = (char) ('0' + provincia % 10);
+        digitos[2] = (char) ('0' + tercero);
+        for (int i = 8; i >= 3; i--) {
+            digitos[i] = (char) ('0' + resto % 10);
+            resto /= 10;
+        }
+        digitos[9] = (char) ('0' + IdentificacionEcuatoriana.digitoVerificadorCedula(CharBuffer.wrap(digitos)));
+        return new String(digitos);
+    }
+
+    private static String sinTildes(String texto) {
+        return texto.replace('á', 'a').replace('é', 'e').replace('í', 'i')
+                .replace('ó', 'o').replace('ú', 'u').replace('ñ', 'n');
+    }
+
+    private void actualizarEstadisticas() {
+        try {
+            String baseDeDatos = JdbcUtils.extractDatabaseMetaData(dataSource,
+                    DatabaseMetaData::getDatabaseProductName);
+            if ("PostgreSQL".equals(baseDeDatos)) {
+                // Sin estadísticas frescas el planificador estima la tabla vacía hasta el próximo autovacuum
+                jdbcTemplate.execute("ANALYZE socios");
+            }
+        } catch (MetaDataAccessException e) {
+            log.warn("No se pudieron actualizar las estadísticas de socios: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package ec.fin.coacandes.socios.config;
+
+import ec.fin.coacandes.socios.entity.UuidV7Generator;
+import ec.fin.coacandes.socios.validation.IdentificacionValida;
+import ec.fin.coacandes.socios.validation.IdentificacionValidaValidator;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * Metadatos de alcanzabilidad para la imagen nativa (perfil Maven native) que el procesamiento AOT de
+ * Spring no deduce solo. Entidades, repositorios y tipos de los controladores los registra Spring; los
+ * DTO que Jackson lee o escribe fuera de un controlador se declaran con @RegisterReflectionForBinding
+ * en el servicio que los usa. En la JVM estas pistas no tienen efecto.
+ */
+@Configuration(proxyBeanMethods = false)
+@ImportRuntimeHints(ImagenNativaConfig.Pistas.class)
+public class ImagenNativaConfig {
+
+    static class Pistas implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            // Hibernate instancia el generador de @UuidV7 por reflexión
+            hints.reflection().registerType(UuidV7Generator.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+            // Hibernate Validator instancia el validador y lee los atributos de la anotación
+            hints.reflection().registerType(IdentificacionValidaValidator.class,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+            hints.reflection().registerType(IdentificacionValida.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+            // Leído del classpath por IndicesParcialesInitializer
+            hints.resources().registerPattern(IndicesParcialesInitializer.SCRIPT);
+        }
+    }
+}
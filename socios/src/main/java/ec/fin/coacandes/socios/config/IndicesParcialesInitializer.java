@@ -0,0 +1,53 @@
+package ec.fin.coacandes.socios.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+/**
+ * Crea en PostgreSQL los índices parciales que JPA no puede declarar. En otras bases (H2 en pruebas)
+ * no hace nada. Un fallo solo se registra: la aplicación funciona sin los índices, aunque más lenta.
+ * <p>
+ * Con la tabla poblada la creación puede tardar minutos, así que corre en un hilo aparte y no retrasa
+ * la disponibilidad; en producción conviene aplicar el script antes del despliegue (RENDIMIENTO.md) y
+ * al arrancar solo se verifica.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IndicesParcialesInitializer {
+
+    static final String SCRIPT = "db/indices-postgresql.sql";
+
+    private final DataSource dataSource;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void crearIndices() {
+        Thread.ofPlatform().name("indices-parciales").daemon().start(this::aplicarScript);
+    }
+
+    void aplicarScript() {
+        try {
+            String baseDeDatos = JdbcUtils.extractDatabaseMetaData(dataSource,
+                    DatabaseMetaData::getDatabaseProductName);
+            if (!"PostgreSQL".equals(baseDeDatos)) {
+                log.debug("Índices parciales omitidos en {}", baseDeDatos);
+                return;
+            }
+            // Cada sentencia se ejecuta en autocommit: CREATE INDEX CONCURRENTLY no admite transacciones
+            new ResourceDatabasePopulator(new ClassPathResource(SCRIPT)).execute(dataSource);
+            log.info("Índices parciales de socios verificados");
+        } catch (MetaDataAccessException | RuntimeException e) {
+            log.warn("No se pudieron crear los índices parciales de socios: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package ec.fin.coacandes.socios.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.aspectj.AspectJExpressionPointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Mide la duración de todas las operaciones públicas de los servicios (service.impl.*ServiceImpl) con el
+ * timer {@value #METRICA_SERVICIO}, etiquetado con class, method y exception como lo haría @Timed, sin
+ * anotar cada servicio. Las consultas de repositorio (spring.data.repository.invocations) y el pool
+ * Hikari (hikaricp.connections.*) los instrumenta Spring Boot automáticamente.
+ */
+@Configuration
+public class MetricsConfig {
+
+    public static final String METRICA_SERVICIO = "socios.servicio";
+
+    static final String SERVICIOS = "execution(public * ec.fin.coacandes.socios.service.impl.*ServiceImpl.*(..))";
+
+    @Bean
+    public Advisor metricaServicios(MeterRegistry registry) {
+        AspectJExpressionPointcut pointcut = new AspectJExpressionPointcut();
+        pointcut.setExpression(SERVICIOS);
+        return new DefaultPointcutAdvisor(pointcut, medirServicio(registry));
+    }
+
+    static MethodInterceptor medirServicio(MeterRegistry registry) {
+        return invocation -> {
+            Timer.Sample muestra = Timer.start(registry);
+            String excepcion = "none";
+            try {
+                return invocation.proceed();
+            } catch (Throwable e) {
+                excepcion = e.getClass().getSimpleName();
+                throw e;
+            } finally {
+                muestra.stop(Timer.builder(METRICA_SERVICIO)
+                        .description("Duración de las operaciones del servicio de socios")
+                        .tag("class", invocation.getMethod().getDeclaringClass().getName())
+                        .tag("method", invocation.getMethod().getName())
+                        .tag("exception", excepcion)
+                        .publishPercentileHistogram()
+                        .register(registry));
+            }
+        };
+    }
+}
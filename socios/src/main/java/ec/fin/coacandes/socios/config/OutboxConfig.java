@@ -0,0 +1,13 @@
+package ec.fin.coacandes.socios.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Outbox de eventos de socios: SocioOutboxRelay publica periódicamente (socios.outbox.intervalo)
+ * los eventos pendientes en el destino elegido con socios.outbox.destino (memoria o archivo).
+ */
+@Configuration
+@EnableScheduling
+public class OutboxConfig {
+}
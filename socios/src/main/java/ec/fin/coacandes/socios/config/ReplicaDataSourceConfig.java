@@ -0,0 +1,107 @@
+package ec.fin.coacandes.socios.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Envía las transacciones de solo lectura a una réplica. Solo se activa si se configura
+ * socios.replica.datasource.url; sin réplica se usa el DataSource autoconfigurado de siempre.
+ * <p>
+ * El DataSource principal es un LazyConnectionDataSourceProxy: la conexión física se obtiene en la primera
+ * sentencia, cuando ya se sabe si la transacción es de solo lectura.
+ */
+@Configuration
+@ConditionalOnProperty(name = "socios.replica.datasource.url")
+public class ReplicaDataSourceConfig {
+
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primarioDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("socios-primario");
+        return dataSource;
+    }
+
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("socios.replica.datasource")
+    public DataSourceProperties replicaDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("socios.replica.datasource.hikari")
+    public HikariDataSource replicaDataSource(
+            @Qualifier("replicaDataSourceProperties") DataSourceProperties properties,
+            ObjectProvider<MeterRegistry> registry) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("socios-replica");
+        dataSource.setReadOnly(true);
+        // Spring Boot solo instrumenta el pool que encuentra detrás del DataSource principal
+        registry.ifAvailable(r -> dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(r)));
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primarioDataSource") DataSource primario,
+                                 @Qualifier("replicaDataSource") DataSource replica) {
+        return enrutar(primario, replica);
+    }
+
+    @Bean
+    public WebMvcConfigurer consistenciaLecturaConfigurer(
+            @Value("${socios.replica.leer-escrituras:true}") boolean leerEscrituras,
+            @Value("${socios.replica.ventana:PT5S}") Duration ventana) {
+        ConsistenciaLecturaInterceptor interceptor = new ConsistenciaLecturaInterceptor(leerEscrituras, ventana);
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(interceptor).addPathPatterns("/api/**");
+            }
+        };
+    }
+
+    /**
+     * Las conexiones marcadas de solo lectura van a la réplica, salvo que la petición deba leer del primario.
+     */
+    static DataSource enrutar(DataSource primario, DataSource replica) {
+        LecturaDataSource lectura = new LecturaDataSource();
+        lectura.setTargetDataSources(Map.of(Destino.PRIMARIO, primario, Destino.REPLICA, replica));
+        lectura.afterPropertiesSet();
+
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primario);
+        proxy.setReadOnlyDataSource(lectura);
+        return proxy;
+    }
+
+    private enum Destino {
+        PRIMARIO,
+        REPLICA
+    }
+
+    private static class LecturaDataSource extends AbstractRoutingDataSource {
+
+        @Override
+        protected Object determineCurrentLookupKey() {
+            return ConsistenciaLectura.debeLeerDelPrimario() ? Destino.PRIMARIO : Destino.REPLICA;
+        }
+    }
+}
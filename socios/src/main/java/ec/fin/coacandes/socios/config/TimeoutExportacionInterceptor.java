@@ -0,0 +1,48 @@
+package ec.fin.coacandes.socios.config;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * Aplica a las respuestas en streaming (StreamingResponseBody, la exportación) su propio timeout asíncrono.
+ * El resto de respuestas asíncronas conserva el general, spring.mvc.async.request-timeout.
+ */
+public class TimeoutExportacionInterceptor implements CallableProcessingInterceptor {
+
+    private final Duration timeout;
+
+    public TimeoutExportacionInterceptor(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    // Se invoca antes de iniciar el procesamiento asíncrono, cuando el timeout todavía se puede cambiar
+    @Override
+    public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+        if (request instanceof AsyncWebRequest asincrona && esStreaming(request)) {
+            asincrona.setTimeout(timeout.toMillis());
+        }
+    }
+
+    private static boolean esStreaming(NativeWebRequest request) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+                RequestAttributes.SCOPE_REQUEST);
+        if (!(handler instanceof HandlerMethod metodo)) {
+            return false;
+        }
+        ResolvableType tipo = ResolvableType.forMethodReturnType(metodo.getMethod());
+        if (ResponseEntity.class.equals(tipo.resolve())) {
+            tipo = tipo.getGeneric(0);
+        }
+        return StreamingResponseBody.class.isAssignableFrom(tipo.toClass());
+    }
+}
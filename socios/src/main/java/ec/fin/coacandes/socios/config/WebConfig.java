@@ -1,14 +1,30 @@
 package ec.fin.coacandes.socios.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.ViewControllerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.time.Duration;
+
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    private final Duration timeoutExportacion;
+
+    public WebConfig(@Value("${socios.exportacion.timeout:PT30M}") Duration timeoutExportacion) {
+        this.timeoutExportacion = timeoutExportacion;
+    }
+
     @Override
     public void addViewControllers(ViewControllerRegistry registry) {
         registry.addViewController("/").setViewName("forward:/index.html");
     }
+
+    // El timeout general lo fija Spring Boot (spring.mvc.async.request-timeout); aquí solo el de la exportación
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new TimeoutExportacionInterceptor(timeoutExportacion));
+    }
 }
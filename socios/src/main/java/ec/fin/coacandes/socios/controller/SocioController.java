@@ -1,19 +1,48 @@
 package ec.fin.coacandes.socios.controller;
 
 
+import ec.fin.coacandes.socios.dto.CampoSocio;
+import ec.fin.coacandes.socios.dto.ConsultaMasivaRequestDTO;
+import ec.fin.coacandes.socios.dto.ConsultaMasivaResponseDTO;
+import ec.fin.coacandes.socios.dto.FormatoExportacion;
+import ec.fin.coacandes.socios.dto.ImportacionSociosDTO;
+import ec.fin.coacandes.socios.dto.PaginaCambiosSocioDTO;
+import ec.fin.coacandes.socios.dto.PaginaCamposSocioDTO;
+import ec.fin.coacandes.socios.dto.PaginaSociosDTO;
+import ec.fin.coacandes.socios.dto.ResultadoLoteDTO;
+import ec.fin.coacandes.socios.dto.SocioPatchDTO;
 import ec.fin.coacandes.socios.dto.SocioRequestDTO;
 import ec.fin.coacandes.socios.dto.SocioResponseDTO;
+import ec.fin.coacandes.socios.service.SocioCambiosService;
+import ec.fin.coacandes.socios.service.SocioExportService;
+import ec.fin.coacandes.socios.service.SocioImportacionService;
+import ec.fin.coacandes.socios.service.SocioLoteService;
 import ec.fin.coacandes.socios.service.SocioService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.net.URI;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/socios")
@@ -21,7 +50,13 @@ import java.util.UUID;
 @Tag(name = "Socios", description = "API para gestión de socios")
 public class SocioController {
 
+    static final String HEADER_SIGUIENTE_CURSOR = "X-Next-Cursor";
+
     private final SocioService socioService;
+    private final SocioExportService socioExportService;
+    private final SocioLoteService socioLoteService;
+    private final SocioCambiosService socioCambiosService;
+    private final SocioImportacionService socioImportacionService;
 
     @PostMapping
     @Operation(summary = "Crear un nuevo socio")
@@ -29,38 +64,213 @@ public class SocioController {
         return new ResponseEntity<>(socioService.crearSocio(request), HttpStatus.CREATED);
     }
 
+    @PostMapping(value = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Crear socios en lote",
+            description = "Recibe un arreglo JSON de socios, lo procesa en bloques y devuelve el resultado de cada elemento "
+                    + "con su posición en el arreglo. Si el JSON se interrumpe, lo leído hasta ahí se procesa y un "
+                    + "elemento ERROR indica la posición desde la que reintentar")
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(content = @Content(
+            array = @ArraySchema(schema = @Schema(implementation = SocioRequestDTO.class))))
+    public ResponseEntity<ResultadoLoteDTO> crearSociosEnLote(HttpServletRequest request) throws IOException {
+        // Se lee el cuerpo en streaming para no materializar el arreglo completo en memoria
+        return ResponseEntity.ok(socioLoteService.crearEnLote(request.getInputStream()));
+    }
+
+    @PostMapping(value = "/importar", consumes = {"text/csv", MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    @Operation(summary = "Importar socios desde CSV",
+            description = "Recibe un CSV con cabecera (identificacion, nombres, apellidos, email, telefono, direccion, "
+                    + "tipoIdentificacion) y lo procesa en segundo plano. Devuelve 202 con la URL del estado")
+    public ResponseEntity<ImportacionSociosDTO> importarSocios(HttpServletRequest request) throws IOException {
+        // El cuerpo se copia en streaming a un archivo temporal; la respuesta no espera al procesamiento
+        ImportacionSociosDTO importacion = socioImportacionService.iniciar(request.getInputStream());
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/socios/importar/" + importacion.getId()))
+                .body(importacion);
+    }
+
+    @GetMapping("/importar/{id}")
+    @Operation(summary = "Estado y progreso de una importación de socios")
+    public ResponseEntity<ImportacionSociosDTO> obtenerImportacion(@PathVariable UUID id) {
+        return ResponseEntity.ok(socioImportacionService.obtenerEstado(id));
+    }
+
+    @GetMapping(value = "/importar/{id}/rechazos", produces = "text/csv")
+    @Operation(summary = "Descargar las filas rechazadas de una importación terminada")
+    public ResponseEntity<Resource> descargarRechazos(@PathVariable UUID id) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("rechazos-" + id + ".csv")
+                        .build().toString())
+                .body(socioImportacionService.obtenerRechazos(id));
+    }
+
     @PutMapping("/{id}")
-    @Operation(summary = "Actualizar socio existente")
+    @Operation(summary = "Actualizar socio existente",
+            description = "Con If-Match devuelve 412 si el socio cambió desde que se obtuvo ese ETag")
     public ResponseEntity<SocioResponseDTO> actualizarSocio(
             @PathVariable UUID id,
-            @Valid @RequestBody SocioRequestDTO request) {
-        return ResponseEntity.ok(socioService.actualizarSocio(id, request));
+            @Valid @RequestBody SocioRequestDTO request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        SocioResponseDTO actualizado = socioService.actualizarSocio(id, request, SocioEtag.versionEsperada(ifMatch, id));
+        return ResponseEntity.ok().eTag(SocioEtag.de(actualizado)).body(actualizado);
+    }
+
+    @PatchMapping("/{id}")
+    @Operation(summary = "Actualizar parcialmente un socio",
+            description = "Solo se modifican los campos enviados; los ausentes o nulos se conservan. "
+                    + "Con If-Match devuelve 412 si el socio cambió desde que se obtuvo ese ETag")
+    public ResponseEntity<SocioResponseDTO> parchearSocio(
+            @PathVariable UUID id,
+            @Valid @RequestBody SocioPatchDTO cambios,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        SocioResponseDTO actualizado = socioService.parchearSocio(id, cambios, SocioEtag.versionEsperada(ifMatch, id));
+        return ResponseEntity.ok().eTag(SocioEtag.de(actualizado)).body(actualizado);
     }
 
     @GetMapping("/{id}")
-    @Operation(summary = "Obtener socio por ID")
-    public ResponseEntity<SocioResponseDTO> obtenerSocio(@PathVariable UUID id) {
-        return ResponseEntity.ok(socioService.obtenerSocioPorId(id));
+    @Operation(summary = "Obtener socio por ID",
+            description = "Devuelve 304 si la cabecera If-None-Match coincide con el ETag vigente")
+    public ResponseEntity<SocioResponseDTO> obtenerSocio(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // Con If-None-Match se compara solo la versión, sin cargar el socio completo
+        if (ifNoneMatch != null) {
+            String etag = SocioEtag.de(id, socioService.obtenerVersion(id));
+            if (SocioEtag.coincide(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+        }
+        SocioResponseDTO socio = socioService.obtenerSocioPorId(id);
+        return ResponseEntity.ok().eTag(SocioEtag.de(socio)).body(socio);
     }
 
     @GetMapping
-    @Operation(summary = "Obtener todos los socios")
-    public ResponseEntity<List<SocioResponseDTO>> obtenerTodos() {
-        return ResponseEntity.ok(socioService.obtenerTodosLosSocios());
+    @Operation(summary = "Obtener socios paginados por cursor",
+            description = "El cursor de la siguiente página se devuelve en la cabecera " + HEADER_SIGUIENTE_CURSOR)
+    public ResponseEntity<List<SocioResponseDTO>> obtenerTodos(
+            @Parameter(description = "Cursor devuelto por la página anterior")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Tamaño de página (máximo 500)")
+            @RequestParam(defaultValue = "50") int size,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        PaginaSociosDTO pagina = socioService.obtenerTodosLosSocios(cursor, size);
+        String etag = SocioEtag.dePagina(pagina.getSocios(), pagina.getSiguienteCursor());
+
+        // La página se consulta igual, pero un 304 evita serializar y transferir el cuerpo
+        boolean sinCambios = SocioEtag.coincide(ifNoneMatch, etag);
+        ResponseEntity.BodyBuilder respuesta = sinCambios
+                ? ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                : ResponseEntity.ok();
+        respuesta.eTag(etag);
+        if (pagina.getSiguienteCursor() != null) {
+            respuesta.header(HEADER_SIGUIENTE_CURSOR, pagina.getSiguienteCursor());
+        }
+        return sinCambios ? respuesta.build() : respuesta.body(pagina.getSocios());
+    }
+
+    @GetMapping(params = "fields")
+    @Operation(summary = "Obtener socios paginados con solo los campos indicados",
+            description = "La consulta SQL y el JSON se limitan a los campos de fields")
+    public ResponseEntity<List<Map<String, Object>>> obtenerCamposDeTodos(
+            @Parameter(description = "Campos separados por comas, p. ej. id,identificacion,nombres,apellidos,version")
+            @RequestParam String fields,
+            @Parameter(description = "Cursor devuelto por la página anterior")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Tamaño de página (máximo 500)")
+            @RequestParam(defaultValue = "50") int size) {
+        PaginaCamposSocioDTO pagina = socioService.obtenerCamposDeSocios(cursor, size, CampoSocio.desdeLista(fields));
+        ResponseEntity.BodyBuilder respuesta = ResponseEntity.ok();
+        if (pagina.getSiguienteCursor() != null) {
+            respuesta.header(HEADER_SIGUIENTE_CURSOR, pagina.getSiguienteCursor());
+        }
+        return respuesta.body(pagina.getSocios());
+    }
+
+    @GetMapping("/changes")
+    @Operation(summary = "Feed de cambios de socios",
+            description = "Altas (CREADO), modificaciones (ACTUALIZADO) y bajas (ELIMINADO) posteriores al cursor "
+                    + "since, en orden de ocurrencia. El consumidor guarda siguienteCursor y lo envía en la siguiente "
+                    + "sincronización. Solo se entregan cambios con más de socios.cambios.margen (2 s por defecto) de "
+                    + "antigüedad: una escritura cuya transacción confirma más tarde que ese margen queda detrás del "
+                    + "cursor y no se entrega; para no perder ninguno, usar los eventos del outbox")
+    public ResponseEntity<PaginaCambiosSocioDTO> obtenerCambios(
+            @Parameter(description = "Cursor devuelto por la consulta anterior; vacío para empezar desde el inicio")
+            @RequestParam(required = false) String since,
+            @Parameter(description = "Cantidad máxima de cambios (máximo 1000)")
+            @RequestParam(defaultValue = "500") int size) {
+        return ResponseEntity.ok(socioCambiosService.obtenerCambios(since, size));
+    }
+
+    @GetMapping("/exportar")
+    @Operation(summary = "Exportar todos los socios en streaming (NDJSON o CSV)")
+    public ResponseEntity<StreamingResponseBody> exportar(
+            @Parameter(description = "ndjson o csv")
+            @RequestParam(defaultValue = "ndjson") String formato,
+            @Parameter(description = "Comprimir la respuesta con gzip")
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        FormatoExportacion formatoExportacion = FormatoExportacion.desde(formato);
+
+        StreamingResponseBody cuerpo = salida -> {
+            if (gzip) {
+                // Se cierra aunque la exportación falle a medias (libera el Deflater); la salida la cierra el contenedor
+                try (GZIPOutputStream comprimido = new GZIPOutputStream(StreamUtils.nonClosing(salida), 64 * 1024)) {
+                    socioExportService.exportar(formatoExportacion, comprimido);
+                }
+            } else {
+                socioExportService.exportar(formatoExportacion, salida);
+            }
+        };
+
+        ResponseEntity.BodyBuilder respuesta = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(formatoExportacion.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("socios." + formatoExportacion.getExtension())
+                        .build().toString());
+        if (gzip) {
+            respuesta.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return respuesta.body(cuerpo);
     }
 
     @DeleteMapping("/{id}")
-    @Operation(summary = "Eliminar socio (lógico)")
-    public ResponseEntity<Void> eliminarSocio(@PathVariable UUID id) {
-        socioService.eliminarSocio(id);
+    @Operation(summary = "Eliminar socio (lógico)",
+            description = "Con If-Match devuelve 412 si el socio cambió desde que se obtuvo ese ETag")
+    public ResponseEntity<Void> eliminarSocio(
+            @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        socioService.eliminarSocio(id, SocioEtag.versionEsperada(ifMatch, id));
         return ResponseEntity.noContent().build();
     }
 
     @GetMapping("/identificacion/{identificacion}")
     @Operation(summary = "Buscar socio por identificación")
     public ResponseEntity<SocioResponseDTO> buscarPorIdentificacion(
-            @PathVariable String identificacion) {
-        return ResponseEntity.ok(socioService.obtenerSocioPorIdentificacion(identificacion));
+            @PathVariable String identificacion,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        SocioResponseDTO socio = socioService.obtenerSocioPorIdentificacion(identificacion);
+        String etag = SocioEtag.de(socio);
+        if (SocioEtag.coincide(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok().eTag(etag).body(socio);
+    }
+
+    @GetMapping(value = "/identificacion/{identificacion}", params = "fields")
+    @Operation(summary = "Buscar socio por identificación con solo los campos indicados")
+    public ResponseEntity<Map<String, Object>> buscarCamposPorIdentificacion(
+            @PathVariable String identificacion,
+            @Parameter(description = "Campos separados por comas, p. ej. id,identificacion,nombres,apellidos,version")
+            @RequestParam String fields) {
+        return ResponseEntity.ok(socioService.obtenerCamposPorIdentificacion(identificacion, CampoSocio.desdeLista(fields)));
+    }
+
+    @PostMapping("/lookup")
+    @Operation(summary = "Buscar varios socios por IDs o identificaciones",
+            description = "Devuelve los socios encontrados y, por separado, las claves que no existen")
+    public ResponseEntity<ConsultaMasivaResponseDTO> buscarVarios(
+            @Valid @RequestBody ConsultaMasivaRequestDTO consulta) {
+        return ResponseEntity.ok(socioService.buscarVarios(consulta));
     }
 
     @DeleteMapping("/limpiar-todo")
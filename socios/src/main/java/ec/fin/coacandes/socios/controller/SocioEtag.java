@@ -0,0 +1,83 @@
+package ec.fin.coacandes.socios.controller;
+
+import ec.fin.coacandes.socios.dto.SocioResponseDTO;
+import ec.fin.coacandes.socios.exception.VersionNoCoincideException;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * ETags fuertes de los recursos de socios, derivados del id y de la versión (@Version) del registro.
+ */
+final class SocioEtag {
+
+    private SocioEtag() {
+    }
+
+    static String de(UUID id, Long version) {
+        return "\"" + id + "-" + version + "\"";
+    }
+
+    static String de(SocioResponseDTO socio) {
+        return de(socio.getId(), socio.getVersion());
+    }
+
+    // La página cambia si cambia cualquiera de sus socios, su orden o el cursor siguiente
+    static String dePagina(List<SocioResponseDTO> socios, String siguienteCursor) {
+        StringBuilder huella = new StringBuilder(socios.size() * 52);
+        for (SocioResponseDTO socio : socios) {
+            huella.append(socio.getId()).append(':').append(socio.getVersion()).append(';');
+        }
+        huella.append(siguienteCursor);
+        return "\"" + DigestUtils.md5DigestAsHex(huella.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * Compara contra la cabecera If-None-Match (lista separada por comas, "*" o ETags débiles).
+     */
+    static boolean coincide(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidato : ifNoneMatch.split(",")) {
+            String valor = candidato.trim();
+            if (valor.equals("*")) {
+                return true;
+            }
+            if (valor.startsWith("W/")) {
+                valor = valor.substring(2);
+            }
+            if (valor.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Versión que exige la cabecera If-Match, o null si no hay precondición ("*" o sin cabecera).
+     * If-Match usa comparación fuerte: un ETag débil o de otro socio nunca coincide.
+     */
+    static Long versionEsperada(String ifMatch, UUID id) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+        String prefijo = "\"" + id + "-";
+        for (String candidato : ifMatch.split(",")) {
+            String valor = candidato.trim();
+            if (valor.equals("*")) {
+                return null;
+            }
+            if (valor.startsWith(prefijo) && valor.endsWith("\"") && valor.length() > prefijo.length() + 1) {
+                try {
+                    return Long.parseLong(valor.substring(prefijo.length(), valor.length() - 1));
+                } catch (NumberFormatException e) {
+                    // ETag con otro formato: se sigue con el siguiente candidato
+                }
+            }
+        }
+        throw new VersionNoCoincideException();
+    }
+}
@@ -0,0 +1,28 @@
+package ec.fin.coacandes.socios.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Cambio de un socio dentro del feed de cambios")
+public class CambioSocioDTO {
+
+    private TipoCambioSocio tipo;
+
+    private UUID id;
+
+    private String identificacion;
+
+    @Schema(description = "Fecha de actualización o de eliminación del socio")
+    private LocalDateTime fecha;
+
+    @Schema(description = "Estado actual del socio; nulo en los cambios ELIMINADO")
+    private SocioResponseDTO socio;
+}
@@ -0,0 +1,57 @@
+package ec.fin.coacandes.socios.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Campos de {@link SocioResponseDTO} que se pueden solicitar con el parámetro {@code fields}.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CampoSocio {
+
+    ID("id"),
+    IDENTIFICACION("identificacion"),
+    NOMBRES("nombres"),
+    APELLIDOS("apellidos"),
+    EMAIL("email"),
+    TELEFONO("telefono"),
+    DIRECCION("direccion"),
+    TIPO_IDENTIFICACION("tipoIdentificacion"),
+    ACTIVO("activo"),
+    FECHA_CREACION("fechaCreacion"),
+    FECHA_ACTUALIZACION("fechaActualizacion"),
+    // Necesaria para armar If-Match en PUT, PATCH y DELETE
+    VERSION("version");
+
+    // Nombre de la propiedad en la entidad y en el JSON de respuesta
+    private final String propiedad;
+
+    public static CampoSocio desde(String valor) {
+        for (CampoSocio campo : values()) {
+            if (campo.propiedad.equalsIgnoreCase(valor)) {
+                return campo;
+            }
+        }
+        throw new IllegalArgumentException("Campo no soportado: " + valor);
+    }
+
+    // Interpreta una lista separada por comas, p. ej. "id,identificacion,nombres"
+    public static Set<CampoSocio> desdeLista(String valores) {
+        Set<CampoSocio> campos = EnumSet.noneOf(CampoSocio.class);
+        if (valores != null) {
+            for (String valor : valores.split(",")) {
+                if (!valor.isBlank()) {
+                    campos.add(desde(valor.trim()));
+                }
+            }
+        }
+        if (campos.isEmpty()) {
+            throw new IllegalArgumentException("Debe indicar al menos un campo en fields");
+        }
+        return campos;
+    }
+}
@@ -0,0 +1,24 @@
+package ec.fin.coacandes.socios.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Schema(description = "Claves para la consulta masiva de socios (máximo 1000 en total)")
+public class ConsultaMasivaRequestDTO {
+
+    public static final int MAXIMO_CLAVES = 1000;
+
+    @Size(max = MAXIMO_CLAVES, message = "Se admiten como máximo 1000 ids")
+    @Schema(description = "IDs de socios")
+    private List<UUID> ids = new ArrayList<>();
+
+    @Size(max = MAXIMO_CLAVES, message = "Se admiten como máximo 1000 identificaciones")
+    @Schema(description = "Cédulas o RUCs", example = "[\"1712345675\"]")
+    private List<String> identificaciones = new ArrayList<>();
+}
@@ -0,0 +1,22 @@
+package ec.fin.coacandes.socios.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Resultado de la consulta masiva de socios")
+public class ConsultaMasivaResponseDTO {
+
+    private List<SocioResponseDTO> encontrados;
+
+    private List<UUID> idsNoEncontrados;
+
+    private List<String> identificacionesNoEncontradas;
+}
@@ -0,0 +1,8 @@
+package ec.fin.coacandes.socios.dto;
+
+public enum EstadoItemLote {
+    CREADO,
+    DUPLICADO,
+    INVALIDO,
+    ERROR
+}
@@ -0,0 +1,31 @@
+package ec.fin.coacandes.socios.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Evento tal como se entrega a los consumidores. El id es creciente y sirve para descartar duplicados:
+ * la entrega es al menos una vez.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventoSocioDTO {
+
+    private Long id;
+
+    private TipoEventoSocio tipo;
+
+    private UUID socioId;
+
+    private LocalDateTime fecha;
+
+    // Ya es JSON: se incrusta sin volver a serializarlo
+    @JsonRawValue
+    private String socio;
+}
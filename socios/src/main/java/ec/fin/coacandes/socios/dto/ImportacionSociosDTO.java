@@ -0,0 +1,38 @@
+package ec.fin.coacandes.socios.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Estado de una importación de socios desde CSV")
+public class ImportacionSociosDTO {
+
+    private UUID id;
+
+    @Schema(example = "EN_PROCESO")
+    private EstadoImportacion estado;
+
+    @Schema(description = "Tamaño del archivo recibido en bytes", example = "5242880")
+    private long bytes;
+
+    @Schema(description = "Filas de datos procesadas hasta el momento", example = "12000")
+    private long filasProcesadas;
+
+    private long creados;
+
+    private long rechazados;
+
+    @Schema(description = "Motivo del fallo cuando la importación no pudo completarse")
+    private String mensaje;
+
+    private LocalDateTime fechaRecepcion;
+
+    private LocalDateTime fechaFin;
+}
@@ -0,0 +1,23 @@
+package ec.fin.coacandes.socios.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Página del feed de cambios de socios")
+public class PaginaCambiosSocioDTO {
+
+    private List<CambioSocioDTO> cambios;
+
+    @Schema(description = "Cursor para la siguiente consulta; se devuelve siempre, aunque no haya cambios")
+    private String siguienteCursor;
+
+    @Schema(description = "Indica si hay más cambios disponibles inmediatamente")
+    private boolean hayMas;
+}
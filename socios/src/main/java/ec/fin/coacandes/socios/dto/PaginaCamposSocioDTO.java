@@ -0,0 +1,21 @@
+package ec.fin.coacandes.socios.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Página de socios con solo los campos solicitados")
+public class PaginaCamposSocioDTO {
+
+    private List<Map<String, Object>> socios;
+
+    @Schema(description = "Cursor opaco para solicitar la siguiente página; nulo si no hay más resultados")
+    private String siguienteCursor;
+}
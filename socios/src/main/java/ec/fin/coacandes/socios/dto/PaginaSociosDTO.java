@@ -0,0 +1,20 @@
+package ec.fin.coacandes.socios.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Página de socios obtenida por cursor")
+public class PaginaSociosDTO {
+
+    private List<SocioResponseDTO> socios;
+
+    @Schema(description = "Cursor opaco para solicitar la siguiente página; nulo si no hay más resultados")
+    private String siguienteCursor;
+}
@@ -0,0 +1,30 @@
+package ec.fin.coacandes.socios.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Resultado de un elemento de la creación en lote")
+public class ResultadoItemLoteDTO {
+
+    @Schema(description = "Posición del elemento en el arreglo recibido (desde 0)", example = "0")
+    private int indice;
+
+    @Schema(example = "1712345675")
+    private String identificacion;
+
+    @Schema(example = "CREADO")
+    private EstadoItemLote estado;
+
+    @Schema(description = "ID asignado cuando el socio fue creado")
+    private UUID id;
+
+    @Schema(description = "Motivo del rechazo")
+    private String mensaje;
+}
@@ -0,0 +1,30 @@
+package ec.fin.coacandes.socios.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Schema(description = "Resultado de la creación de socios en lote")
+public class ResultadoLoteDTO {
+
+    private int total;
+
+    private int creados;
+
+    private int rechazados;
+
+    private List<ResultadoItemLoteDTO> items = new ArrayList<>();
+
+    public void agregar(ResultadoItemLoteDTO item) {
+        items.add(item);
+        total++;
+        if (item.getEstado() == EstadoItemLote.CREADO) {
+            creados++;
+        } else {
+            rechazados++;
+        }
+    }
+}
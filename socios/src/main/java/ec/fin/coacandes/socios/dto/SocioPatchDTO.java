@@ -0,0 +1,45 @@
+package ec.fin.coacandes.socios.dto;
+
+import ec.fin.coacandes.socios.validation.ConIdentificacion;
+import ec.fin.coacandes.socios.validation.IdentificacionValida;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Pattern;
+import lombok.Data;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Actualización parcial de un socio: un campo ausente o nulo se deja como está.
+ * Las validaciones son las de SocioRequestDTO, aplicadas solo a los campos enviados; si solo llega uno de
+ * identificacion y tipoIdentificacion, la combinación con el valor guardado se valida en el servicio.
+ */
+@Data
+@IdentificacionValida
+@Schema(description = "DTO para actualización parcial de socios; los campos nulos no se modifican")
+public class SocioPatchDTO implements ConIdentificacion {
+
+    @Schema(description = "Cédula (10 dígitos) o RUC (13 dígitos)", example = "1712345675")
+    private String identificacion;
+
+    @Pattern(regexp = ".*\\S.*", message = "Los nombres no pueden estar vacíos")
+    @Schema(example = "Juan Carlos")
+    private String nombres;
+
+    @Pattern(regexp = ".*\\S.*", message = "Los apellidos no pueden estar vacíos")
+    @Schema(example = "Pérez González")
+    private String apellidos;
+
+    @Email(message = "Email inválido")
+    @Schema(example = "juan.perez@email.com")
+    private String email;
+
+    @Pattern(regexp = "^[0-9]{9,10}$", message = "Teléfono inválido")
+    @Schema(example = "0987654321")
+    private String telefono;
+
+    @Schema(example = "Av. Principal 123")
+    private String direccion;
+
+    @Schema(example = "CEDULA", allowableValues = {"CEDULA", "RUC"})
+    private String tipoIdentificacion;
+}
@@ -1,5 +1,7 @@
 package ec.fin.coacandes.socios.dto;
 
+import ec.fin.coacandes.socios.validation.ConIdentificacion;
+import ec.fin.coacandes.socios.validation.IdentificacionValida;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -9,12 +11,12 @@ import lombok.Data;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 @Data
+@IdentificacionValida
 @Schema(description = "DTO para creación y actualización de socios")
-public class SocioRequestDTO {
+public class SocioRequestDTO implements ConIdentificacion {
 
     @NotBlank(message = "La identificación es obligatoria")
-    @Pattern(regexp = "^[0-9]{10,13}$", message = "Identificación inválida")
-    @Schema(description = "Cédula (10 dígitos) o RUC (13 dígitos)", example = "1712345678")
+    @Schema(description = "Cédula (10 dígitos) o RUC (13 dígitos)", example = "1712345675")
     private String identificacion;
 
     @NotBlank(message = "Los nombres son obligatorios")
@@ -13,7 +13,7 @@ public class SocioResponseDTO {
     @Schema(description = "ID único del socio", example = "123e4567-e89b-12d3-a456-426614174000")
     private UUID id;
 
-    @Schema(example = "1712345678")
+    @Schema(example = "1712345675")
     private String identificacion;
 
     @Schema(example = "Juan Carlos")
@@ -42,4 +42,7 @@ public class SocioResponseDTO {
 
     @Schema(example = "2024-01-15T10:30:00")
     private LocalDateTime fechaActualizacion;
+
+    @Schema(description = "Versión del registro; el ETag que se envía en If-Match se deriva de ella", example = "3")
+    private Long version;
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+package ec.fin.coacandes.socios.dto;
+
+public enum TipoCambioSocio {
+    // Alta sin modificaciones posteriores (versión 0)
+    CREADO,
+    // Modificación; si el consumidor aún no tiene el socio (se perdió el alta), lo inserta
+    ACTUALIZADO,
+    // Baja: el consumidor elimina su copia
+    ELIMINADO
+}
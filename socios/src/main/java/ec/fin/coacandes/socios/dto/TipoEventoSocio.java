@@ -0,0 +1,7 @@
+package ec.fin.coacandes.socios.dto;
+
+public enum TipoEventoSocio {
+    SOCIO_CREADO,
+    SOCIO_ACTUALIZADO,
+    SOCIO_ELIMINADO
+}
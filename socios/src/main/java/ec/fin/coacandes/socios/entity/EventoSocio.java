@@ -0,0 +1,40 @@
+package ec.fin.coacandes.socios.entity;
+
+import ec.fin.coacandes.socios.dto.TipoEventoSocio;
+import jakarta.persistence.*;
+import lombok.Data;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Evento pendiente de publicación (patrón outbox). Se inserta en la misma transacción que el cambio
+ * del socio y el relay lo elimina una vez entregado al destino.
+ */
+@Entity
+@Table(name = "socios_outbox")
+@Data
+public class EventoSocio {
+
+    // Secuencia con asignación por bloques: las inserciones de un lote se agrupan en un único batch JDBC
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "socios_outbox_seq")
+    @SequenceGenerator(name = "socios_outbox_seq", sequenceName = "socios_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private TipoEventoSocio tipo;
+
+    @Column(name = "socio_id", nullable = false)
+    private UUID socioId;
+
+    // Representación JSON del socio en el momento del cambio
+    @Column(nullable = false, length = 4000)
+    private String contenido;
+
+    @CreationTimestamp
+    @Column(name = "fecha_creacion", nullable = false, updatable = false)
+    private LocalDateTime fechaCreacion;
+}
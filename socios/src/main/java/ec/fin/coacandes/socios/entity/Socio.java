@@ -2,7 +2,9 @@ package ec.fin.coacandes.socios.entity;
 
 
 import lombok.Data;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import jakarta.persistence.*;
@@ -10,15 +12,30 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "socios")
+@Table(name = "socios", uniqueConstraints = {
+        @UniqueConstraint(name = Socio.UK_IDENTIFICACION, columnNames = "identificacion"),
+        @UniqueConstraint(name = Socio.UK_EMAIL, columnNames = "email")
+}, indexes = {
+        // La paginación por cursor de socios activos usa el índice parcial idx_socios_activos_fecha_creacion_id,
+        // que JPA no puede declarar: lo crea IndicesParcialesInitializer (db/indices-postgresql.sql)
+        // Soporta el feed de cambios ordenado por (fecha_actualizacion, id)
+        @Index(name = "idx_socios_fecha_actualizacion_id", columnList = "fecha_actualizacion, id")
+})
 @Data
+// El UPDATE incluye solo las columnas modificadas: menos WAL en las actualizaciones parciales
+@DynamicUpdate
 public class Socio {
 
+    // Nombres explícitos para traducir las violaciones de unicidad en GlobalExceptionHandler
+    public static final String UK_IDENTIFICACION = "uk_socios_identificacion";
+    public static final String UK_EMAIL = "uk_socios_email";
+
+    // UUID v7: creciente en el tiempo, mantiene compactas las inserciones en el índice de la clave primaria
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @UuidV7
     private UUID id;
 
-    @Column(unique = true, nullable = false, length = 13)
+    @Column(nullable = false, length = 13)
     private String identificacion; // Cédula o RUC
 
     @Column(nullable = false, length = 100)
@@ -27,7 +44,7 @@ public class Socio {
     @Column(nullable = false, length = 100)
     private String apellidos;
 
-    @Column(unique = true, length = 100)
+    @Column(length = 100)
     private String email;
 
     @Column(length = 10)
@@ -49,4 +66,11 @@ public class Socio {
     @UpdateTimestamp
     @Column(name = "fecha_actualizacion")
     private LocalDateTime fechaActualizacion;
+
+    // Bloqueo optimista: cada UPDATE lleva "WHERE version = ?" y una escritura concurrente falla sin
+    // bloquear a nadie. El valor por defecto permite agregar la columna a tablas con datos
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
 }
\ No newline at end of file
@@ -0,0 +1,37 @@
+package ec.fin.coacandes.socios.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Lápida de un socio eliminado físicamente (limpiar-todo), para que el feed de cambios pueda informar la baja.
+ * Las bajas lógicas no la necesitan: el socio sigue en la tabla con activo = false.
+ */
+@Entity
+@Table(name = "socios_eliminados", indexes = {
+        @Index(name = "idx_socios_eliminados_fecha_id", columnList = "fecha_eliminacion, id")
+})
+@Data
+@NoArgsConstructor
+public class SocioEliminado {
+
+    // Mismo id que tenía el socio
+    @Id
+    private UUID id;
+
+    @Column(nullable = false, length = 13)
+    private String identificacion;
+
+    @Column(name = "fecha_eliminacion", nullable = false)
+    private LocalDateTime fechaEliminacion;
+
+    public SocioEliminado(UUID id, String identificacion, LocalDateTime fechaEliminacion) {
+        this.id = id;
+        this.identificacion = identificacion;
+        this.fechaEliminacion = fechaEliminacion;
+    }
+}
@@ -0,0 +1,47 @@
+package ec.fin.coacandes.socios.entity;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.security.SecureRandom;
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * UUID versión 7 (RFC 9562): 48 bits de milisegundos Unix, 12 bits de secuencia y 62 bits aleatorios.
+ * <p>
+ * Los identificadores nuevos son crecientes, por lo que las inserciones se agregan al final del índice de la
+ * clave primaria en lugar de repartirse por todo el árbol. Siguen siendo UUID: conviven con los v4 existentes.
+ */
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+    // Misma fuente que UUID.randomUUID: los 62 bits aleatorios no deben ser predecibles
+    private static final SecureRandom ALEATORIO = new SecureRandom();
+
+    // Último (milisegundo << 12 | secuencia) emitido; garantiza orden estricto dentro de la JVM
+    // aunque se generen más de 4096 ids en un milisegundo o el reloj retroceda
+    private static final AtomicLong ULTIMA_MARCA = new AtomicLong();
+
+    public static UUID siguiente() {
+        long ahora = System.currentTimeMillis() << 12;
+        long marca = ULTIMA_MARCA.updateAndGet(anterior -> Math.max(anterior + 1, ahora));
+
+        long masSignificativos = ((marca >>> 12) << 16) | 0x7000L | (marca & 0xFFFL);
+        long menosSignificativos = (ALEATORIO.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(masSignificativos, menosSignificativos);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        return siguiente();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
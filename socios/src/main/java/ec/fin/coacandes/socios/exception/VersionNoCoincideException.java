@@ -0,0 +1,13 @@
+package ec.fin.coacandes.socios.exception;
+
+/**
+ * La versión enviada en If-Match ya no es la vigente: otra operación modificó el socio.
+ */
+public class VersionNoCoincideException extends RuntimeException {
+
+    public static final String MENSAJE = "El socio fue modificado por otra operación; vuelva a consultarlo antes de guardar";
+
+    public VersionNoCoincideException() {
+        super(MENSAJE);
+    }
+}
@@ -0,0 +1,46 @@
+package ec.fin.coacandes.socios.mapper;
+
+import ec.fin.coacandes.socios.dto.SocioPatchDTO;
+import ec.fin.coacandes.socios.dto.SocioRequestDTO;
+import ec.fin.coacandes.socios.dto.SocioResponseDTO;
+import ec.fin.coacandes.socios.entity.Socio;
+import org.mapstruct.BeanMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.NullValuePropertyMappingStrategy;
+
+/**
+ * Mapeo generado en compilación entre la entidad y sus DTOs.
+ * Los campos administrados por el sistema (id, activo, fechas, versión) nunca se copian desde la petición;
+ * el resto se copia tal cual, incluidos los nulos, salvo en el PATCH, que ignora los nulos.
+ */
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+public interface SocioMapper {
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "activo", ignore = true)
+    @Mapping(target = "fechaCreacion", ignore = true)
+    @Mapping(target = "fechaActualizacion", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    Socio aEntidad(SocioRequestDTO request);
+
+    SocioResponseDTO aRespuesta(Socio socio);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "activo", ignore = true)
+    @Mapping(target = "fechaCreacion", ignore = true)
+    @Mapping(target = "fechaActualizacion", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    void actualizarEntidad(SocioRequestDTO request, @MappingTarget Socio socio);
+
+    // Solo se asignan los campos enviados: los demás quedan limpios y @DynamicUpdate los omite del UPDATE
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "activo", ignore = true)
+    @Mapping(target = "fechaCreacion", ignore = true)
+    @Mapping(target = "fechaActualizacion", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    void aplicarCambios(SocioPatchDTO cambios, @MappingTarget Socio socio);
+}
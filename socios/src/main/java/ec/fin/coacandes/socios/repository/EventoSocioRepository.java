@@ -0,0 +1,28 @@
+package ec.fin.coacandes.socios.repository;
+
+import ec.fin.coacandes.socios.entity.EventoSocio;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface EventoSocioRepository extends JpaRepository<EventoSocio, Long> {
+
+    // SKIP LOCKED (timeout -2): varias instancias del relay se reparten los eventos sin bloquearse
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM EventoSocio e ORDER BY e.id ASC")
+    List<EventoSocio> findPendientes(Pageable limite);
+
+    @Query("SELECT MIN(e.fechaCreacion) FROM EventoSocio e")
+    Optional<LocalDateTime> findFechaPendienteMasAntigua();
+}
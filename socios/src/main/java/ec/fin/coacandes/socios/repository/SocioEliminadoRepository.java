@@ -0,0 +1,44 @@
+package ec.fin.coacandes.socios.repository;
+
+import ec.fin.coacandes.socios.entity.SocioEliminado;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface SocioEliminadoRepository extends JpaRepository<SocioEliminado, UUID> {
+
+    // Registra en una sola sentencia las lápidas de todos los socios antes de un borrado masivo
+    @Modifying
+    @Query("""
+            INSERT INTO SocioEliminado (id, identificacion, fechaEliminacion)
+            SELECT s.id, s.identificacion, :fecha FROM Socio s
+            """)
+    int registrarTodos(@Param("fecha") LocalDateTime fecha);
+
+    @Query("""
+            SELECT e FROM SocioEliminado e
+            WHERE e.fechaEliminacion < :hasta
+            ORDER BY e.fechaEliminacion ASC, e.id ASC
+            """)
+    List<SocioEliminado> findCambiosDesdeInicio(@Param("hasta") LocalDateTime hasta, Pageable limite);
+
+    @Query("""
+            SELECT e FROM SocioEliminado e
+            WHERE e.fechaEliminacion >= :fecha
+              AND (e.fechaEliminacion > :fecha OR e.id > :id)
+              AND e.fechaEliminacion < :hasta
+            ORDER BY e.fechaEliminacion ASC, e.id ASC
+            """)
+    List<SocioEliminado> findCambiosDespuesDe(@Param("fecha") LocalDateTime fecha,
+                                              @Param("id") UUID id,
+                                              @Param("hasta") LocalDateTime hasta,
+                                              Pageable limite);
+}
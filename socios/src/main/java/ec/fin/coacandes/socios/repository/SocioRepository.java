@@ -1,18 +1,130 @@
 package ec.fin.coacandes.socios.repository;
 
 import ec.fin.coacandes.socios.entity.Socio;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
-public interface SocioRepository extends JpaRepository<Socio, UUID> {
+public interface SocioRepository extends JpaRepository<Socio, UUID>, SocioRepositoryCustom {
 
     Optional<Socio> findByIdentificacion(String identificacion);
 
     boolean existsByIdentificacion(String identificacion);
 
+    // Las lecturas solo ven socios activos; las variantes sin ActivoTrue se reservan para
+    // verificaciones de unicidad, donde un socio dado de baja sigue ocupando su identificación
     Optional<Socio> findByIdAndActivoTrue(UUID id);
+
+    Optional<Socio> findByIdentificacionAndActivoTrue(String identificacion);
+
+    List<Socio> findByIdInAndActivoTrue(Collection<UUID> ids);
+
+    List<Socio> findByIdentificacionInAndActivoTrue(Collection<String> identificaciones);
+
+    boolean existsByIdAndActivoTrue(UUID id);
+
+    // Baja lógica en una sola sentencia, sin leer antes la fila. Las actualizaciones masivas no pasan
+    // por @UpdateTimestamp ni por @Version: la fecha y la versión se asignan explícitamente
+    @Modifying
+    @Query("""
+            UPDATE Socio s SET s.activo = false, s.fechaActualizacion = :fecha, s.version = s.version + 1
+            WHERE s.id = :id AND s.activo = true
+            """)
+    int desactivar(@Param("id") UUID id, @Param("fecha") LocalDateTime fecha);
+
+    // Variante condicionada a If-Match: solo desactiva si la versión no cambió
+    @Modifying
+    @Query("""
+            UPDATE Socio s SET s.activo = false, s.fechaActualizacion = :fecha, s.version = s.version + 1
+            WHERE s.id = :id AND s.activo = true AND s.version = :version
+            """)
+    int desactivarSiVersion(@Param("id") UUID id, @Param("version") long version,
+                            @Param("fecha") LocalDateTime fecha);
+
+    // Proyección para validar ETags sin cargar la entidad completa
+    @Query("SELECT s.version FROM Socio s WHERE s.id = :id AND s.activo = true")
+    Optional<Long> findVersionById(@Param("id") UUID id);
+
+    // Verificación de duplicados de un bloque completo en una sola consulta
+    @Query("SELECT s.identificacion FROM Socio s WHERE s.identificacion IN :identificaciones")
+    List<String> findIdentificacionesExistentes(@Param("identificaciones") Collection<String> identificaciones);
+
+    // Paginación keyset: el Pageable solo aporta el límite (sin consulta de conteo ni OFFSET).
+    // En PostgreSQL la recorre el índice parcial idx_socios_activos_fecha_creacion_id
+    @Query("SELECT s FROM Socio s WHERE s.activo = true ORDER BY s.fechaCreacion ASC, s.id ASC")
+    List<Socio> findPrimeraPagina(Pageable limite);
+
+    // La primera condición delimita el rango del índice (fecha_creacion, id);
+    // la segunda descarta las filas ya entregadas con la misma fecha de creación
+    @Query("""
+            SELECT s FROM Socio s
+            WHERE s.activo = true
+              AND s.fechaCreacion >= :fechaCreacion
+              AND (s.fechaCreacion > :fechaCreacion OR s.id > :id)
+            ORDER BY s.fechaCreacion ASC, s.id ASC
+            """)
+    List<Socio> findPaginaDespuesDe(@Param("fechaCreacion") LocalDateTime fechaCreacion,
+                                    @Param("id") UUID id,
+                                    Pageable limite);
+
+    // Feed de cambios: mismo esquema keyset sobre el índice (fecha_actualizacion, id).
+    // El límite superior excluye las escrituras recientes que aún podrían no estar confirmadas
+    @Query("""
+            SELECT s FROM Socio s
+            WHERE s.fechaActualizacion < :hasta
+            ORDER BY s.fechaActualizacion ASC, s.id ASC
+            """)
+    List<Socio> findCambiosDesdeInicio(@Param("hasta") LocalDateTime hasta, Pageable limite);
+
+    @Query("""
+            SELECT s FROM Socio s
+            WHERE s.fechaActualizacion >= :fecha
+              AND (s.fechaActualizacion > :fecha OR s.id > :id)
+              AND s.fechaActualizacion < :hasta
+            ORDER BY s.fechaActualizacion ASC, s.id ASC
+            """)
+    List<Socio> findCambiosDespuesDe(@Param("fecha") LocalDateTime fecha,
+                                     @Param("id") UUID id,
+                                     @Param("hasta") LocalDateTime hasta,
+                                     Pageable limite);
+
+    // Recorre la tabla con un cursor JDBC; debe consumirse dentro de una transacción y cerrarse
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT s FROM Socio s WHERE s.activo = true")
+    Stream<Socio> streamActivos();
+
+    // Solo la columna, incluidos los socios dados de baja: alimenta FiltroIdentificaciones
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "10000"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT s.identificacion FROM Socio s")
+    Stream<String> streamIdentificaciones();
+
+    // Identificación e id de todos los socios, incluidos los dados de baja: alimenta IndiceIdentificaciones
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "10000"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT s.identificacion, s.id FROM Socio s")
+    Stream<Object[]> streamIdentificacionesConId();
 }
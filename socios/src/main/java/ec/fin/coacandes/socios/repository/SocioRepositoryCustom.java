@@ -0,0 +1,25 @@
+package ec.fin.coacandes.socios.repository;
+
+import ec.fin.coacandes.socios.dto.CampoSocio;
+import jakarta.persistence.Tuple;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Consultas con proyección dinámica: solo se leen de la base las columnas solicitadas.
+ * Igual que el resto de lecturas, solo devuelven socios activos.
+ */
+public interface SocioRepositoryCustom {
+
+    /**
+     * Página keyset ordenada por (fechaCreacion, id). Cada tupla incluye además id y fechaCreacion,
+     * necesarios para construir el cursor. Con {@code fechaCreacion} nula se devuelve la primera página.
+     */
+    List<Tuple> findCamposPagina(Set<CampoSocio> campos, LocalDateTime fechaCreacion, UUID id, int limite);
+
+    Optional<Tuple> findCamposPorIdentificacion(Set<CampoSocio> campos, String identificacion);
+}
@@ -0,0 +1,79 @@
+package ec.fin.coacandes.socios.repository;
+
+import ec.fin.coacandes.socios.dto.CampoSocio;
+import ec.fin.coacandes.socios.entity.Socio;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+class SocioRepositoryCustomImpl implements SocioRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Tuple> findCamposPagina(Set<CampoSocio> campos, LocalDateTime fechaCreacion, UUID id, int limite) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Socio> socio = query.from(Socio.class);
+
+        // id y fechaCreacion siempre se leen: forman la clave del cursor
+        Set<CampoSocio> columnas = EnumSet.copyOf(campos);
+        columnas.add(CampoSocio.ID);
+        columnas.add(CampoSocio.FECHA_CREACION);
+        query.multiselect(seleccion(socio, columnas));
+
+        Path<LocalDateTime> fecha = socio.get(CampoSocio.FECHA_CREACION.getPropiedad());
+        Path<UUID> socioId = socio.get(CampoSocio.ID.getPropiedad());
+        Predicate activo = cb.isTrue(socio.get(CampoSocio.ACTIVO.getPropiedad()));
+        if (fechaCreacion != null) {
+            // Mismo predicado que SocioRepository.findPaginaDespuesDe
+            query.where(activo, cb.greaterThanOrEqualTo(fecha, fechaCreacion),
+                    cb.or(cb.greaterThan(fecha, fechaCreacion), cb.greaterThan(socioId, id)));
+        } else {
+            query.where(activo);
+        }
+        query.orderBy(cb.asc(fecha), cb.asc(socioId));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limite)
+                .getResultList();
+    }
+
+    @Override
+    public Optional<Tuple> findCamposPorIdentificacion(Set<CampoSocio> campos, String identificacion) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Socio> socio = query.from(Socio.class);
+
+        query.multiselect(seleccion(socio, campos))
+                .where(cb.equal(socio.get(CampoSocio.IDENTIFICACION.getPropiedad()), identificacion),
+                        cb.isTrue(socio.get(CampoSocio.ACTIVO.getPropiedad())));
+
+        return entityManager.createQuery(query)
+                .getResultStream()
+                .findFirst();
+    }
+
+    private static List<Selection<?>> seleccion(Root<Socio> socio, Set<CampoSocio> campos) {
+        List<Selection<?>> seleccion = new ArrayList<>(campos.size());
+        for (CampoSocio campo : campos) {
+            seleccion.add(socio.get(campo.getPropiedad()).alias(campo.getPropiedad()));
+        }
+        return seleccion;
+    }
+}
@@ -0,0 +1,14 @@
+package ec.fin.coacandes.socios.service;
+
+import ec.fin.coacandes.socios.dto.EventoSocioDTO;
+
+import java.util.List;
+
+/**
+ * Destino al que el relay del outbox entrega los eventos (broker, archivo, memoria).
+ * Si lanza una excepción el lote completo se reintenta en la siguiente pasada.
+ */
+public interface DestinoEventos {
+
+    void publicar(List<EventoSocioDTO> eventos) throws Exception;
+}
@@ -0,0 +1,12 @@
+package ec.fin.coacandes.socios.service;
+
+import ec.fin.coacandes.socios.dto.PaginaCambiosSocioDTO;
+
+public interface SocioCambiosService {
+
+    /**
+     * Devuelve las altas, modificaciones y bajas posteriores al cursor, en orden de ocurrencia.
+     * Sin cursor se recorre el historial desde el inicio.
+     */
+    PaginaCambiosSocioDTO obtenerCambios(String desde, int tamanio);
+}
@@ -0,0 +1,15 @@
+package ec.fin.coacandes.socios.service;
+
+import ec.fin.coacandes.socios.dto.FormatoExportacion;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface SocioExportService {
+
+    /**
+     * Escribe todos los socios activos en la salida indicada fila por fila, sin materializar el listado en memoria.
+     * No cierra la salida.
+     */
+    long exportar(FormatoExportacion formato, OutputStream salida) throws IOException;
+}
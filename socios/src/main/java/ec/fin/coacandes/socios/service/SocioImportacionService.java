@@ -0,0 +1,23 @@
+package ec.fin.coacandes.socios.service;
+
+import ec.fin.coacandes.socios.dto.ImportacionSociosDTO;
+import org.springframework.core.io.Resource;
+
+import java.io.InputStream;
+import java.util.UUID;
+
+public interface SocioImportacionService {
+
+    /**
+     * Copia el CSV recibido a un archivo temporal y programa su procesamiento en segundo plano.
+     * Devuelve la importación en estado PENDIENTE.
+     */
+    ImportacionSociosDTO iniciar(InputStream csv);
+
+    ImportacionSociosDTO obtenerEstado(UUID id);
+
+    /**
+     * Archivo CSV con las filas rechazadas (fila, identificación, estado y motivo) de una importación terminada.
+     */
+    Resource obtenerRechazos(UUID id);
+}
@@ -0,0 +1,23 @@
+package ec.fin.coacandes.socios.service;
+
+import ec.fin.coacandes.socios.dto.ResultadoItemLoteDTO;
+import ec.fin.coacandes.socios.dto.ResultadoLoteDTO;
+import ec.fin.coacandes.socios.dto.SocioRequestDTO;
+
+import java.io.InputStream;
+import java.util.List;
+
+public interface SocioLoteService {
+
+    /**
+     * Lee un arreglo JSON de SocioRequestDTO de forma incremental y crea los socios por bloques.
+     * Cada bloque se confirma en su propia transacción.
+     */
+    ResultadoLoteDTO crearEnLote(InputStream json);
+
+    /**
+     * Valida e inserta un bloque en una transacción y devuelve el resultado de cada elemento, en orden.
+     * Los índices de los resultados parten de indiceInicial.
+     */
+    List<ResultadoItemLoteDTO> procesarBloque(List<SocioRequestDTO> bloque, int indiceInicial);
+}
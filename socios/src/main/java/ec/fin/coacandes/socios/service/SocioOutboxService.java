@@ -0,0 +1,14 @@
+package ec.fin.coacandes.socios.service;
+
+import ec.fin.coacandes.socios.dto.TipoEventoSocio;
+
+import java.util.UUID;
+
+public interface SocioOutboxService {
+
+    /**
+     * Registra un evento en la tabla outbox. Debe llamarse dentro de la transacción que modifica al socio,
+     * para que el evento exista si y solo si el cambio se confirma.
+     */
+    void registrar(TipoEventoSocio tipo, UUID socioId, Object contenido);
+}
@@ -1,23 +1,40 @@
 package ec.fin.coacandes.socios.service;
 
+import ec.fin.coacandes.socios.dto.CampoSocio;
+import ec.fin.coacandes.socios.dto.ConsultaMasivaRequestDTO;
+import ec.fin.coacandes.socios.dto.ConsultaMasivaResponseDTO;
+import ec.fin.coacandes.socios.dto.PaginaCamposSocioDTO;
+import ec.fin.coacandes.socios.dto.PaginaSociosDTO;
+import ec.fin.coacandes.socios.dto.SocioPatchDTO;
 import ec.fin.coacandes.socios.dto.SocioRequestDTO;
 import ec.fin.coacandes.socios.dto.SocioResponseDTO;
 
-import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 public interface SocioService {
     SocioResponseDTO crearSocio(SocioRequestDTO request);
 
-    SocioResponseDTO actualizarSocio(UUID id, SocioRequestDTO request);
+    SocioResponseDTO actualizarSocio(UUID id, SocioRequestDTO request, Long versionEsperada);
+
+    SocioResponseDTO parchearSocio(UUID id, SocioPatchDTO cambios, Long versionEsperada);
 
     SocioResponseDTO obtenerSocioPorId(UUID id);
 
-    List<SocioResponseDTO> obtenerTodosLosSocios();
+    Long obtenerVersion(UUID id);
+
+    PaginaSociosDTO obtenerTodosLosSocios(String cursor, int tamanio);
+
+    PaginaCamposSocioDTO obtenerCamposDeSocios(String cursor, int tamanio, Set<CampoSocio> campos);
 
-    void eliminarSocio(UUID id);
+    void eliminarSocio(UUID id, Long versionEsperada);
 
     SocioResponseDTO obtenerSocioPorIdentificacion(String identificacion);
 
+    Map<String, Object> obtenerCamposPorIdentificacion(String identificacion, Set<CampoSocio> campos);
+
+    ConsultaMasivaResponseDTO buscarVarios(ConsultaMasivaRequestDTO consulta);
+
     void eliminarTodos();
 }
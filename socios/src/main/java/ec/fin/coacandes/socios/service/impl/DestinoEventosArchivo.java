@@ -0,0 +1,58 @@
+package ec.fin.coacandes.socios.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import ec.fin.coacandes.socios.dto.EventoSocioDTO;
+import ec.fin.coacandes.socios.service.DestinoEventos;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Destino local que agrega los eventos como NDJSON a un archivo. Cada lote se escribe y sincroniza
+ * a disco antes de confirmarse como publicado.
+ */
+@RegisterReflectionForBinding(EventoSocioDTO.class)
+@Component
+@ConditionalOnProperty(name = "socios.outbox.destino", havingValue = "archivo")
+public class DestinoEventosArchivo implements DestinoEventos {
+
+    private final Path archivo;
+    private final ObjectWriter writer;
+
+    public DestinoEventosArchivo(@Value("${socios.outbox.archivo:socios-eventos.ndjson}") Path archivo,
+                                 ObjectMapper objectMapper) throws IOException {
+        this.archivo = archivo.toAbsolutePath();
+        if (this.archivo.getParent() != null) {
+            Files.createDirectories(this.archivo.getParent());
+        }
+        this.writer = objectMapper.writerFor(EventoSocioDTO.class);
+    }
+
+    @Override
+    public synchronized void publicar(List<EventoSocioDTO> eventos) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(eventos.size() * 512);
+        for (EventoSocioDTO evento : eventos) {
+            writer.writeValue(buffer, evento);
+            buffer.write('\n');
+        }
+        try (FileChannel canal = FileChannel.open(archivo,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer datos = ByteBuffer.wrap(buffer.toByteArray());
+            while (datos.hasRemaining()) {
+                canal.write(datos);
+            }
+            canal.force(false);
+        }
+    }
+}
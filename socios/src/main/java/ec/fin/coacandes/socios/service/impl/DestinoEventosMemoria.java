@@ -0,0 +1,37 @@
+package ec.fin.coacandes.socios.service.impl;
+
+import ec.fin.coacandes.socios.dto.EventoSocioDTO;
+import ec.fin.coacandes.socios.service.DestinoEventos;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Destino en proceso para desarrollo y pruebas: conserva los últimos eventos publicados.
+ */
+@Component
+@ConditionalOnProperty(name = "socios.outbox.destino", havingValue = "memoria", matchIfMissing = true)
+public class DestinoEventosMemoria implements DestinoEventos {
+
+    static final int CAPACIDAD = 10_000;
+
+    private final Deque<EventoSocioDTO> eventos = new ArrayDeque<>();
+
+    @Override
+    public synchronized void publicar(List<EventoSocioDTO> lote) {
+        for (EventoSocioDTO evento : lote) {
+            if (eventos.size() == CAPACIDAD) {
+                eventos.removeFirst();
+            }
+            eventos.addLast(evento);
+        }
+    }
+
+    public synchronized List<EventoSocioDTO> publicados() {
+        return new ArrayList<>(eventos);
+    }
+}
@@ -0,0 +1,100 @@
+package ec.fin.coacandes.socios.service.impl;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Filtro de Bloom concurrente sobre cadenas: "no contiene" es definitivo, "podría contener" no.
+ * <p>
+ * Tamaño y número de funciones hash se calculan para la capacidad y la probabilidad de falso positivo
+ * pedidas; por encima de la capacidad el filtro sigue funcionando pero la probabilidad crece.
+ * Las k posiciones salen de un único hash de 64 bits por doble hashing, sin reservar memoria por consulta.
+ */
+final class FiltroBloom {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray palabras;
+    private final long cantidadBits;
+    private final int funciones;
+    private final LongAdder bitsEncendidos = new LongAdder();
+
+    FiltroBloom(long capacidad, double probabilidadFalsoPositivo) {
+        if (capacidad <= 0 || probabilidadFalsoPositivo <= 0 || probabilidadFalsoPositivo >= 1) {
+            throw new IllegalArgumentException("Capacidad o probabilidad de falso positivo inválidas");
+        }
+        long bits = (long) Math.ceil(-capacidad * Math.log(probabilidadFalsoPositivo) / (LN2 * LN2));
+        this.palabras = new AtomicLongArray((int) Math.min(Integer.MAX_VALUE - 8, (bits + 63) / 64));
+        this.cantidadBits = palabras.length() * 64L;
+        this.funciones = Math.max(1, (int) Math.round((double) cantidadBits / capacidad * LN2));
+    }
+
+    void agregar(CharSequence valor) {
+        long h1 = hash(valor);
+        long h2 = mezclar(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < funciones; i++) {
+            if (encender(Math.floorMod(h1 + i * h2, cantidadBits))) {
+                bitsEncendidos.increment();
+            }
+        }
+    }
+
+    boolean podriaContener(CharSequence valor) {
+        long h1 = hash(valor);
+        long h2 = mezclar(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < funciones; i++) {
+            long indice = Math.floorMod(h1 + i * h2, cantidadBits);
+            if ((palabras.get((int) (indice >>> 6)) & (1L << indice)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long bytes() {
+        return palabras.length() * 8L;
+    }
+
+    int funciones() {
+        return funciones;
+    }
+
+    /**
+     * Probabilidad de falso positivo según la proporción actual de bits encendidos.
+     */
+    double probabilidadFalsoPositivo() {
+        return Math.pow((double) bitsEncendidos.sum() / cantidadBits, funciones);
+    }
+
+    private boolean encender(long indice) {
+        int palabra = (int) (indice >>> 6);
+        long mascara = 1L << indice;
+        long actual;
+        do {
+            actual = palabras.get(palabra);
+            if ((actual & mascara) != 0) {
+                return false;
+            }
+        } while (!palabras.compareAndSet(palabra, actual, actual | mascara));
+        return true;
+    }
+
+    // FNV-1a sobre los caracteres seguido del finalizador de MurmurHash3 para repartir los bits
+    private static long hash(CharSequence valor) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < valor.length(); i++) {
+            hash ^= valor.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return mezclar(hash);
+    }
+
+    private static long mezclar(long valor) {
+        valor ^= valor >>> 33;
+        valor *= 0xFF51AFD7ED558CCDL;
+        valor ^= valor >>> 33;
+        valor *= 0xC4CEB9FE1A85EC53L;
+        valor ^= valor >>> 33;
+        return valor;
+    }
+}
@@ -0,0 +1,194 @@
+package ec.fin.coacandes.socios.service.impl;
+
+import ec.fin.coacandes.socios.repository.SocioRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+/**
+ * Filtro de Bloom en memoria con todas las identificaciones registradas (activas o no, como el índice único).
+ * <p>
+ * Evita consultar la base por identificaciones que con seguridad no existen, el caso habitual al crear
+ * socios en lote o por importación. Se construye en segundo plano al arrancar recorriendo la columna con un
+ * cursor (la aplicación acepta tráfico sin esperarlo y, mientras tanto, todo se consulta en la base), se
+ * actualiza con cada escritura de esta instancia y se reconstruye cada socios.filtro-identificaciones.reconstruccion
+ * para incorporar las altas de otras instancias y recuperar la capacidad.
+ * <p>
+ * Un falso negativo (un alta de otra instancia aún no incorporada) no rompe la unicidad: la inserción falla
+ * por el índice único y el lote reintenta fila por fila. Por eso el filtro solo se usa como atajo y nunca
+ * para responder a un cliente que una identificación no existe.
+ */
+@Component
+@Slf4j
+public class FiltroIdentificaciones {
+
+    static final String METRICA_CONSULTAS = "socios.filtro.identificaciones.consultas";
+    static final String METRICA_MEMORIA = "socios.filtro.identificaciones.memoria";
+    static final String METRICA_FALSOS_POSITIVOS = "socios.filtro.identificaciones.falsos.positivos.estimados";
+
+    // Margen sobre los socios actuales para absorber las altas hasta la próxima reconstrucción
+    private static final double MARGEN_CRECIMIENTO = 1.5;
+
+    private final SocioRepository socioRepository;
+    private final TransactionTemplate lectura;
+    private final double probabilidadFalsoPositivo;
+    private final long capacidadMinima;
+    // Un hilo propio: el recorrido no retrasa la disponibilidad ni ocupa el planificador del outbox
+    private final ExecutorService ejecutor =
+            Executors.newSingleThreadExecutor(Thread.ofPlatform().name("filtro-identificaciones").daemon().factory());
+
+    // Nulo hasta la primera construcción: mientras tanto todas las consultas van a la base
+    private volatile FiltroBloom actual;
+    // Filtro en construcción: recibe también las escrituras para no perder las que ocurren durante el recorrido
+    private volatile FiltroBloom siguiente;
+
+    private final Counter descartadas;
+    private final Counter existentes;
+    private final Counter falsosPositivos;
+
+    public FiltroIdentificaciones(SocioRepository socioRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry registry,
+                                  @Value("${socios.filtro-identificaciones.probabilidad-falso-positivo:0.01}") double probabilidadFalsoPositivo,
+                                  @Value("${socios.filtro-identificaciones.capacidad-minima:100000}") long capacidadMinima) {
+        this.socioRepository = socioRepository;
+        this.lectura = new TransactionTemplate(transactionManager);
+        this.lectura.setReadOnly(true);
+        this.probabilidadFalsoPositivo = probabilidadFalsoPositivo;
+        this.capacidadMinima = capacidadMinima;
+
+        // Tasa observada de falsos positivos: falso_positivo / (falso_positivo + descartada)
+        this.descartadas = consultas(registry, "descartada");
+        this.existentes = consultas(registry, "existente");
+        this.falsosPositivos = consultas(registry, "falso_positivo");
+        Gauge.builder(METRICA_MEMORIA, this, filtro -> filtro.actual == null ? 0 : filtro.actual.bytes())
+                .description("Memoria ocupada por el filtro de identificaciones")
+                .baseUnit("bytes")
+                .register(registry);
+        // Sin filtro todas las consultas van a la base, como si todo fuera positivo
+        Gauge.builder(METRICA_FALSOS_POSITIVOS, this,
+                        filtro -> filtro.actual == null ? 1 : filtro.actual.probabilidadFalsoPositivo())
+                .description("Probabilidad de falso positivo según la ocupación actual del filtro")
+                .register(registry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(2) // Después de la carga de datos iniciales
+    public void construir() {
+        construirEnSegundoPlano();
+    }
+
+    Future<?> construirEnSegundoPlano() {
+        return ejecutor.submit(this::reconstruir);
+    }
+
+    // Sincronizado para que la reconstrucción periódica no se solape con la inicial
+    @Scheduled(initialDelayString = "${socios.filtro-identificaciones.reconstruccion:PT6H}",
+            fixedDelayString = "${socios.filtro-identificaciones.reconstruccion:PT6H}")
+    public synchronized void reconstruir() {
+        long comienzo = System.nanoTime();
+        try {
+            long socios = socioRepository.count();
+            FiltroBloom nuevo = new FiltroBloom(Math.max(capacidadMinima, (long) (socios * MARGEN_CRECIMIENTO)),
+                    probabilidadFalsoPositivo);
+            siguiente = nuevo;
+            Long cargadas = lectura.execute(status -> {
+                long total = 0;
+                try (Stream<String> identificaciones = socioRepository.streamIdentificaciones()) {
+                    Iterator<String> iterador = identificaciones.iterator();
+                    while (iterador.hasNext()) {
+                        nuevo.agregar(iterador.next());
+                        total++;
+                    }
+                }
+                return total;
+            });
+            actual = nuevo;
+            log.info("Filtro de identificaciones construido: {} identificaciones, {} KB, {} funciones hash, {} ms",
+                    cargadas, nuevo.bytes() / 1024, nuevo.funciones(),
+                    (System.nanoTime() - comienzo) / 1_000_000);
+        } catch (RuntimeException e) {
+            // Se conserva el filtro anterior; sin filtro las consultas siguen yendo a la base
+            log.warn("No se pudo construir el filtro de identificaciones: {}", e.getMessage());
+        } finally {
+            siguiente = null;
+        }
+    }
+
+    /**
+     * Registra una identificación escrita por esta instancia. Si la transacción se revierte queda como
+     * falso positivo hasta la próxima reconstrucción.
+     */
+    public void agregar(String identificacion) {
+        FiltroBloom filtro = actual;
+        if (filtro != null) {
+            filtro.agregar(identificacion);
+        }
+        FiltroBloom enConstruccion = siguiente;
+        if (enConstruccion != null) {
+            enConstruccion.agregar(identificacion);
+        }
+    }
+
+    /**
+     * Igual que SocioRepository.findIdentificacionesExistentes, pero solo consulta las identificaciones
+     * que el filtro no descarta.
+     */
+    public List<String> buscarExistentes(Collection<String> identificaciones) {
+        FiltroBloom filtro = actual;
+        if (filtro == null) {
+            return socioRepository.findIdentificacionesExistentes(identificaciones);
+        }
+
+        List<String> candidatas = new ArrayList<>();
+        for (String identificacion : identificaciones) {
+            if (filtro.podriaContener(identificacion)) {
+                candidatas.add(identificacion);
+            }
+        }
+        descartadas.increment(identificaciones.size() - candidatas.size());
+        if (candidatas.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> encontradas = socioRepository.findIdentificacionesExistentes(candidatas);
+        existentes.increment(encontradas.size());
+        falsosPositivos.increment(candidatas.size() - encontradas.size());
+        return encontradas;
+    }
+
+    @PreDestroy
+    void detener() {
+        ejecutor.shutdownNow();
+    }
+
+    boolean isConstruido() {
+        return actual != null;
+    }
+
+    private static Counter consultas(MeterRegistry registry, String resultado) {
+        return Counter.builder(METRICA_CONSULTAS)
+                .tag("resultado", resultado)
+                .description("Identificaciones verificadas con el filtro: descartada, existente o falso_positivo")
+                .register(registry);
+    }
+}
@@ -0,0 +1,76 @@
+package ec.fin.coacandes.socios.service.impl;
+
+import ec.fin.coacandes.socios.dto.EstadoImportacion;
+import ec.fin.coacandes.socios.dto.ImportacionSociosDTO;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Estado mutable de una importación: lo escribe el hilo que la procesa y lo leen las consultas de estado.
+ */
+class ImportacionSocios {
+
+    private final UUID id;
+    private final Path archivo;
+    private final Path rechazos;
+    private final long bytes;
+    private final LocalDateTime fechaRecepcion = LocalDateTime.now();
+    private final AtomicLong filasProcesadas = new AtomicLong();
+    private final AtomicLong creados = new AtomicLong();
+    private final AtomicLong rechazados = new AtomicLong();
+    private volatile EstadoImportacion estado = EstadoImportacion.PENDIENTE;
+    private volatile String mensaje;
+    private volatile LocalDateTime fechaFin;
+
+    ImportacionSocios(UUID id, Path archivo, Path rechazos, long bytes) {
+        this.id = id;
+        this.archivo = archivo;
+        this.rechazos = rechazos;
+        this.bytes = bytes;
+    }
+
+    UUID getId() {
+        return id;
+    }
+
+    Path getArchivo() {
+        return archivo;
+    }
+
+    Path getRechazos() {
+        return rechazos;
+    }
+
+    boolean isTerminada() {
+        return estado == EstadoImportacion.COMPLETADA || estado == EstadoImportacion.FALLIDA;
+    }
+
+    void iniciar() {
+        estado = EstadoImportacion.EN_PROCESO;
+    }
+
+    void registrarBloque(long filas, long creadosBloque) {
+        creados.addAndGet(creadosBloque);
+        rechazados.addAndGet(filas - creadosBloque);
+        filasProcesadas.addAndGet(filas);
+    }
+
+    void completar() {
+        fechaFin = LocalDateTime.now();
+        estado = EstadoImportacion.COMPLETADA;
+    }
+
+    void fallar(String motivo) {
+        mensaje = motivo;
+        fechaFin = LocalDateTime.now();
+        estado = EstadoImportacion.FALLIDA;
+    }
+
+    ImportacionSociosDTO aDTO() {
+        return new ImportacionSociosDTO(id, estado, bytes, filasProcesadas.get(), creados.get(), rechazados.get(),
+                mensaje, fechaRecepcion, fechaFin);
+    }
+}
@@ -0,0 +1,172 @@
+package ec.fin.coacandes.socios.service.impl;
+
+import ec.fin.coacandes.socios.repository.SocioRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+/**
+ * Índice opcional en memoria de identificación a id de socio (activo o no, como el índice único), para
+ * resolver la búsqueda por identificación por clave primaria en lugar de por el índice de texto.
+ * <p>
+ * Se carga en segundo plano al arrancar si socios.indice-identificaciones.habilitado es true (hasta que
+ * termina, las búsquedas van a la base como si estuviera deshabilitado) y se mantiene con las
+ * escrituras de esta instancia. Sus respuestas son sugerencias: el id se confirma siempre contra la
+ * fila, así que una entrada obsoleta (transacción revertida, cambio hecho por otra instancia) solo
+ * cuesta la consulta por identificación de siempre, tras la cual se corrige.
+ */
+@Component
+@Slf4j
+public class IndiceIdentificaciones {
+
+    static final String METRICA_CONSULTAS = "socios.indice.identificaciones.consultas";
+    static final String METRICA_ENTRADAS = "socios.indice.identificaciones.entradas";
+    static final String METRICA_MEMORIA = "socios.indice.identificaciones.memoria";
+
+    private final SocioRepository socioRepository;
+    private final TransactionTemplate lectura;
+    // Nula si el índice está deshabilitado
+    private final TablaIdentificaciones tabla;
+    // Las escrituras se aplican durante la carga; las búsquedas esperan a que termine
+    private volatile boolean cargado;
+    private final ExecutorService ejecutor =
+            Executors.newSingleThreadExecutor(Thread.ofPlatform().name("indice-identificaciones").daemon().factory());
+
+    private final Counter aciertos;
+    private final Counter fallos;
+    private final Counter obsoletas;
+
+    public IndiceIdentificaciones(SocioRepository socioRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry registry,
+                                  @Value("${socios.indice-identificaciones.habilitado:false}") boolean habilitado,
+                                  @Value("${socios.indice-identificaciones.capacidad-inicial:100000}") int capacidadInicial) {
+        this.socioRepository = socioRepository;
+        this.lectura = new TransactionTemplate(transactionManager);
+        this.lectura.setReadOnly(true);
+        this.tabla = habilitado ? new TablaIdentificaciones(capacidadInicial) : null;
+
+        this.aciertos = consultas(registry, "acierto");
+        this.fallos = consultas(registry, "fallo");
+        this.obsoletas = consultas(registry, "obsoleta");
+        Gauge.builder(METRICA_ENTRADAS, this, indice -> indice.tabla == null ? 0 : indice.tabla.tamanio())
+                .description("Identificaciones cargadas en el índice en memoria")
+                .register(registry);
+        Gauge.builder(METRICA_MEMORIA, this, indice -> indice.tabla == null ? 0 : indice.tabla.bytes())
+                .description("Memoria ocupada por el índice de identificaciones")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(3) // Después de la carga de datos iniciales y del filtro de identificaciones
+    public void cargar() {
+        if (tabla != null) {
+            cargarEnSegundoPlano();
+        }
+    }
+
+    Future<?> cargarEnSegundoPlano() {
+        return ejecutor.submit(this::recorrer);
+    }
+
+    private void recorrer() {
+        long comienzo = System.nanoTime();
+        try {
+            tabla.reservar(socioRepository.count());
+            Long cargadas = lectura.execute(status -> {
+                long total = 0;
+                try (Stream<Object[]> filas = socioRepository.streamIdentificacionesConId()) {
+                    Iterator<Object[]> iterador = filas.iterator();
+                    while (iterador.hasNext()) {
+                        Object[] fila = iterador.next();
+                        if (tabla.poner((String) fila[0], (UUID) fila[1])) {
+                            total++;
+                        }
+                    }
+                }
+                return total;
+            });
+            log.info("Índice de identificaciones cargado: {} identificaciones, {} MB, {} ms",
+                    cargadas, tabla.bytes() / (1024 * 1024), (System.nanoTime() - comienzo) / 1_000_000);
+        } catch (RuntimeException e) {
+            // Lo cargado hasta el fallo sigue siendo válido como sugerencia; el resto se completa al consultar
+            log.warn("No se pudo cargar el índice de identificaciones: {}", e.getMessage());
+        } finally {
+            cargado = true;
+        }
+    }
+
+    /**
+     * Id asociado a la identificación, o null si el índice está deshabilitado, aún no se cargó o no la conoce.
+     */
+    public UUID buscar(String identificacion) {
+        if (tabla == null || !cargado) {
+            return null;
+        }
+        UUID id = tabla.buscar(identificacion);
+        (id == null ? fallos : aciertos).increment();
+        return id;
+    }
+
+    public void registrar(String identificacion, UUID id) {
+        if (tabla != null) {
+            tabla.poner(identificacion, id);
+        }
+    }
+
+    /**
+     * Quita la asociación tras un cambio de identificación, si sigue apuntando a ese socio.
+     */
+    public void quitar(String identificacion, UUID id) {
+        if (tabla != null) {
+            tabla.quitar(identificacion, id);
+        }
+    }
+
+    /**
+     * Quita una asociación que no se confirmó contra la base.
+     */
+    public void descartar(String identificacion, UUID id) {
+        if (tabla != null) {
+            obsoletas.increment();
+            tabla.quitar(identificacion, id);
+        }
+    }
+
+    @PreDestroy
+    void detener() {
+        ejecutor.shutdownNow();
+    }
+
+    boolean isHabilitado() {
+        return tabla != null;
+    }
+
+    boolean isCargado() {
+        return cargado;
+    }
+
+    private static Counter consultas(MeterRegistry registry, String resultado) {
+        return Counter.builder(METRICA_CONSULTAS)
+                .tag("resultado", resultado)
+                .description("Búsquedas por identificación en el índice en memoria: acierto, fallo u obsoleta")
+                .register(registry);
+    }
+}
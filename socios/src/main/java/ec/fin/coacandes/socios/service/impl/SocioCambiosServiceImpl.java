@@ -0,0 +1,108 @@
+package ec.fin.coacandes.socios.service.impl;
+
+import ec.fin.coacandes.socios.dto.CambioSocioDTO;
+import ec.fin.coacandes.socios.dto.PaginaCambiosSocioDTO;
+import ec.fin.coacandes.socios.dto.TipoCambioSocio;
+import ec.fin.coacandes.socios.entity.Socio;
+import ec.fin.coacandes.socios.entity.SocioEliminado;
+import ec.fin.coacandes.socios.mapper.SocioMapper;
+import ec.fin.coacandes.socios.repository.SocioEliminadoRepository;
+import ec.fin.coacandes.socios.repository.SocioRepository;
+import ec.fin.coacandes.socios.service.SocioCambiosService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SocioCambiosServiceImpl implements SocioCambiosService {
+
+    static final int TAMANIO_MAXIMO_PAGINA = 1000;
+
+    // Mismo orden que PostgreSQL y H2 aplican a la clave (fecha, id): el UUID se compara sin signo
+    private static final Comparator<CambioSocioDTO> ORDEN_CAMBIOS = Comparator
+            .comparing(CambioSocioDTO::getFecha)
+            .thenComparing(CambioSocioDTO::getId, SocioCambiosServiceImpl::compararSinSigno);
+
+    private final SocioRepository socioRepository;
+    private final SocioEliminadoRepository socioEliminadoRepository;
+    private final SocioMapper socioMapper;
+
+    // Las fechas se asignan antes del commit: una transacción lenta puede confirmar un cambio con
+    // fecha anterior al último entregado. Solo se publican los cambios más antiguos que este margen;
+    // una transacción que confirma más tarde que eso queda detrás del cursor y no se entrega (RENDIMIENTO.md)
+    @Value("${socios.cambios.margen:PT2S}")
+    private Duration margen = Duration.ofSeconds(2);
+
+    @Override
+    public PaginaCambiosSocioDTO obtenerCambios(String desde, int tamanio) {
+        if (tamanio < 1) {
+            throw new IllegalArgumentException("El tamaño de página debe ser mayor a cero");
+        }
+        int limite = Math.min(tamanio, TAMANIO_MAXIMO_PAGINA);
+        SocioCursor cursor = desde == null || desde.isBlank() ? null : SocioCursor.decodificar(desde);
+        LocalDateTime hasta = LocalDateTime.now().minus(margen);
+
+        // Cada fuente aporta como máximo limite + 1 filas; al mezclarlas, las primeras
+        // "limite" son las mismas que devolvería una única consulta ordenada
+        Pageable pagina = PageRequest.ofSize(limite + 1);
+        List<Socio> actualizados = cursor == null
+                ? socioRepository.findCambiosDesdeInicio(hasta, pagina)
+                : socioRepository.findCambiosDespuesDe(cursor.fecha(), cursor.id(), hasta, pagina);
+        List<SocioEliminado> eliminados = cursor == null
+                ? socioEliminadoRepository.findCambiosDesdeInicio(hasta, pagina)
+                : socioEliminadoRepository.findCambiosDespuesDe(cursor.fecha(), cursor.id(), hasta, pagina);
+
+        List<CambioSocioDTO> cambios = new ArrayList<>(actualizados.size() + eliminados.size());
+        for (Socio socio : actualizados) {
+            // Un socio inactivo es una baja lógica
+            cambios.add(Boolean.TRUE.equals(socio.getActivo())
+                    ? new CambioSocioDTO(tipoCambio(socio), socio.getId(), socio.getIdentificacion(),
+                            socio.getFechaActualizacion(), socioMapper.aRespuesta(socio))
+                    : new CambioSocioDTO(TipoCambioSocio.ELIMINADO, socio.getId(), socio.getIdentificacion(),
+                            socio.getFechaActualizacion(), null));
+        }
+        for (SocioEliminado eliminado : eliminados) {
+            cambios.add(new CambioSocioDTO(TipoCambioSocio.ELIMINADO, eliminado.getId(),
+                    eliminado.getIdentificacion(), eliminado.getFechaEliminacion(), null));
+        }
+        cambios.sort(ORDEN_CAMBIOS);
+
+        boolean hayMas = cambios.size() > limite;
+        if (hayMas) {
+            cambios = cambios.subList(0, limite);
+        }
+
+        // Sin cambios nuevos el consumidor conserva su posición
+        String siguienteCursor = desde;
+        if (!cambios.isEmpty()) {
+            CambioSocioDTO ultimo = cambios.get(cambios.size() - 1);
+            siguienteCursor = new SocioCursor(ultimo.getFecha(), ultimo.getId()).codificar();
+        }
+        return new PaginaCambiosSocioDTO(new ArrayList<>(cambios), siguienteCursor, hayMas);
+    }
+
+    // Cada UPDATE incrementa la versión: en 0 el socio no se modificó desde el alta. Las fechas de
+    // creación y actualización no sirven para esto, Hibernate las genera por separado
+    private static TipoCambioSocio tipoCambio(Socio socio) {
+        return Long.valueOf(0).equals(socio.getVersion()) ? TipoCambioSocio.CREADO : TipoCambioSocio.ACTUALIZADO;
+    }
+
+    private static int compararSinSigno(UUID a, UUID b) {
+        int resultado = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return resultado != 0
+                ? resultado
+                : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
@@ -0,0 +1,37 @@
+package ec.fin.coacandes.socios.service.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Posición opaca dentro de un listado ordenado por (fecha, id).
+ * Se serializa como Base64 URL-safe para que el cliente no dependa de su formato.
+ */
+record SocioCursor(LocalDateTime fecha, UUID id) {
+
+    private static final char SEPARADOR = '|';
+
+    String codificar() {
+        String valor = fecha + String.valueOf(SEPARADOR) + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static SocioCursor decodificar(String cursor) {
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separador = valor.indexOf(SEPARADOR);
+            if (separador < 0) {
+                throw new IllegalArgumentException("Cursor inválido");
+            }
+            return new SocioCursor(
+                    LocalDateTime.parse(valor.substring(0, separador)),
+                    UUID.fromString(valor.substring(separador + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Cursor inválido");
+        }
+    }
+}
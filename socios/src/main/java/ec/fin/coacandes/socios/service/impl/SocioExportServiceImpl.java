@@ -0,0 +1,84 @@
+package ec.fin.coacandes.socios.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import ec.fin.coacandes.socios.dto.FormatoExportacion;
+import ec.fin.coacandes.socios.dto.SocioResponseDTO;
+import ec.fin.coacandes.socios.entity.Socio;
+import ec.fin.coacandes.socios.mapper.SocioMapper;
+import ec.fin.coacandes.socios.repository.SocioRepository;
+import ec.fin.coacandes.socios.service.SocioExportService;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+// NDJSON y CSV se escriben con writers de Jackson, fuera de los controladores
+@RegisterReflectionForBinding(SocioResponseDTO.class)
+@Service
+@Slf4j
+public class SocioExportServiceImpl implements SocioExportService {
+
+    private final SocioRepository socioRepository;
+    private final SocioMapper socioMapper;
+    private final EntityManager entityManager;
+    private final ObjectWriter ndjsonWriter;
+    private final ObjectWriter csvWriter;
+
+    public SocioExportServiceImpl(SocioRepository socioRepository, SocioMapper socioMapper,
+                                  EntityManager entityManager, ObjectMapper objectMapper) {
+        this.socioRepository = socioRepository;
+        this.socioMapper = socioMapper;
+        this.entityManager = entityManager;
+
+        // Sin flush por fila ni cierre de la salida: el contenedor decide cuándo enviar cada bloque
+        this.ndjsonWriter = objectMapper.writerFor(SocioResponseDTO.class)
+                .withRootValueSeparator("\n")
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        CsvMapper csvMapper = CsvMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        this.csvWriter = csvMapper.writer(csvMapper.schemaFor(SocioResponseDTO.class).withHeader())
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportar(FormatoExportacion formato, OutputStream salida) throws IOException {
+        ObjectWriter writer = formato == FormatoExportacion.CSV ? csvWriter : ndjsonWriter;
+        long filas = 0;
+
+        try (Stream<Socio> socios = socioRepository.streamActivos();
+             SequenceWriter secuencia = writer.writeValues(salida)) {
+            Iterator<Socio> iterador = socios.iterator();
+            while (iterador.hasNext()) {
+                Socio socio = iterador.next();
+                secuencia.write(socioMapper.aRespuesta(socio));
+                // Evita que el contexto de persistencia crezca con cada fila exportada
+                entityManager.detach(socio);
+                filas++;
+            }
+        }
+
+        if (formato == FormatoExportacion.NDJSON && filas > 0) {
+            salida.write('\n');
+        }
+        log.info("Exportación {} finalizada: {} socios", formato, filas);
+        return filas;
+    }
+}
@@ -0,0 +1,258 @@
+package ec.fin.coacandes.socios.service.impl;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import ec.fin.coacandes.socios.dto.EstadoItemLote;
+import ec.fin.coacandes.socios.dto.ImportacionSociosDTO;
+import ec.fin.coacandes.socios.dto.ResultadoItemLoteDTO;
+import ec.fin.coacandes.socios.dto.SocioRequestDTO;
+import ec.fin.coacandes.socios.service.SocioImportacionService;
+import ec.fin.coacandes.socios.service.SocioLoteService;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Importación de socios desde CSV en segundo plano.
+ * <p>
+ * La petición solo copia el cuerpo a un archivo temporal, sin mantenerlo en memoria. Un hilo de importación
+ * lo lee fila por fila y delega cada bloque en SocioLoteService, que aplica las validaciones de
+ * SocioRequestDTO e inserta por lotes JDBC. Las filas rechazadas se escriben en un CSV descargable.
+ * El estado de las importaciones vive en memoria durante socios.importacion.retencion.
+ */
+@RegisterReflectionForBinding({SocioRequestDTO.class, SocioImportacionServiceImpl.Rechazo.class})
+@Service
+@Slf4j
+public class SocioImportacionServiceImpl implements SocioImportacionService {
+
+    static final String[] COLUMNAS_OBLIGATORIAS = {"identificacion", "nombres", "apellidos", "tipoIdentificacion"};
+
+    private static final String CABECERA_RECHAZOS = "linea,identificacion,estado,motivo\n";
+
+    private final SocioLoteService socioLoteService;
+    private final Path directorio;
+    private final long tamanioMaximo;
+    private final ObjectReader csvReader;
+    private final ObjectWriter rechazosWriter;
+    private final ExecutorService ejecutor;
+    private final Cache<UUID, ImportacionSocios> importaciones;
+
+    public SocioImportacionServiceImpl(SocioLoteService socioLoteService,
+                                       @Value("${socios.importacion.directorio:${java.io.tmpdir}}") String directorio,
+                                       @Value("${socios.importacion.tamanio-maximo:100MB}") DataSize tamanioMaximo,
+                                       @Value("${socios.importacion.hilos:1}") int hilos,
+                                       @Value("${socios.importacion.pendientes:10}") int pendientes,
+                                       @Value("${socios.importacion.retencion:PT24H}") Duration retencion) {
+        this.socioLoteService = socioLoteService;
+        this.directorio = Path.of(directorio);
+        this.tamanioMaximo = tamanioMaximo.toBytes();
+
+        // Las columnas se toman de la cabecera; las desconocidas se ignoran y los valores vacíos son nulos
+        CsvMapper csvMapper = CsvMapper.builder()
+                .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+                .enable(CsvParser.Feature.TRIM_SPACES)
+                .enable(CsvParser.Feature.SKIP_EMPTY_LINES)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+        this.csvReader = csvMapper.readerFor(SocioRequestDTO.class).with(CsvSchema.emptySchema().withHeader());
+        this.rechazosWriter = csvMapper.writer(csvMapper.schemaFor(Rechazo.class));
+
+        // Pocas importaciones a la vez: cada una ya inserta por lotes y compite con el tráfico normal
+        this.ejecutor = new ThreadPoolExecutor(hilos, hilos, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(pendientes), Thread.ofPlatform().name("importacion-", 0).factory());
+        this.importaciones = Caffeine.newBuilder()
+                .expireAfterWrite(retencion)
+                .<UUID, ImportacionSocios>removalListener((id, importacion, causa) -> {
+                    if (importacion != null) {
+                        borrar(importacion.getRechazos());
+                    }
+                })
+                .build();
+    }
+
+    @Override
+    public ImportacionSociosDTO iniciar(InputStream csv) {
+        UUID id = UUID.randomUUID();
+        Path archivo = directorio.resolve("socios-importacion-" + id + ".csv");
+        Path rechazos = directorio.resolve("socios-rechazos-" + id + ".csv");
+
+        long bytes;
+        try {
+            Files.createDirectories(directorio);
+            bytes = copiar(csv, archivo);
+        } catch (IOException e) {
+            borrar(archivo);
+            throw new UncheckedIOException("No se pudo recibir el archivo CSV", e);
+        } catch (RuntimeException e) {
+            borrar(archivo);
+            throw e;
+        }
+        if (bytes == 0) {
+            borrar(archivo);
+            throw new IllegalArgumentException("El archivo CSV está vacío");
+        }
+
+        ImportacionSocios importacion = new ImportacionSocios(id, archivo, rechazos, bytes);
+        importaciones.put(id, importacion);
+        try {
+            ejecutor.execute(() -> procesar(importacion));
+        } catch (RuntimeException e) {
+            importaciones.invalidate(id);
+            borrar(archivo);
+            throw e;
+        }
+        log.info("Importación {} recibida: {} bytes", id, bytes);
+        return importacion.aDTO();
+    }
+
+    @Override
+    public ImportacionSociosDTO obtenerEstado(UUID id) {
+        return buscar(id).aDTO();
+    }
+
+    @Override
+    public Resource obtenerRechazos(UUID id) {
+        ImportacionSocios importacion = buscar(id);
+        if (!importacion.isTerminada()) {
+            throw new IllegalArgumentException("La importación aún está en proceso");
+        }
+        return new FileSystemResource(importacion.getRechazos());
+    }
+
+    void procesar(ImportacionSocios importacion) {
+        importacion.iniciar();
+        try (MappingIterator<SocioRequestDTO> filas = csvReader.readValues(importacion.getArchivo().toFile());
+             Writer salida = Files.newBufferedWriter(importacion.getRechazos())) {
+            salida.write(CABECERA_RECHAZOS);
+            try (SequenceWriter rechazos = rechazosWriter.writeValues(salida)) {
+                verificarColumnas(filas);
+
+                List<SocioRequestDTO> bloque = new ArrayList<>(SocioLoteServiceImpl.TAMANIO_BLOQUE);
+                // Línea del archivo de cada fila del bloque: cuenta la cabecera y las líneas vacías omitidas
+                long[] lineas = new long[SocioLoteServiceImpl.TAMANIO_BLOQUE];
+                int filaInicial = 0;
+                while (filas.hasNextValue()) {
+                    bloque.add(filas.nextValue());
+                    lineas[bloque.size() - 1] = filas.getParser().currentTokenLocation().getLineNr();
+                    if (bloque.size() == SocioLoteServiceImpl.TAMANIO_BLOQUE) {
+                        procesarBloque(importacion, bloque, lineas, filaInicial, rechazos);
+                        filaInicial += bloque.size();
+                        bloque.clear();
+                    }
+                }
+                if (!bloque.isEmpty()) {
+                    procesarBloque(importacion, bloque, lineas, filaInicial, rechazos);
+                }
+            }
+            importacion.completar();
+            log.info("Importación {} finalizada: {}", importacion.getId(), importacion.aDTO());
+        } catch (IOException | RuntimeException e) {
+            // Los bloques ya confirmados se conservan, igual que en la creación en lote
+            log.warn("Importación {} interrumpida: {}", importacion.getId(), e.getMessage());
+            importacion.fallar("Importación interrumpida después de "
+                    + importacion.aDTO().getFilasProcesadas() + " filas: " + e.getMessage());
+        } finally {
+            borrar(importacion.getArchivo());
+        }
+    }
+
+    private void procesarBloque(ImportacionSocios importacion, List<SocioRequestDTO> bloque, long[] lineas,
+                                int filaInicial, SequenceWriter rechazos) throws IOException {
+        long creados = 0;
+        for (ResultadoItemLoteDTO item : socioLoteService.procesarBloque(bloque, filaInicial)) {
+            if (item.getEstado() == EstadoItemLote.CREADO) {
+                creados++;
+            } else {
+                // Con la línea del archivo original el usuario ubica el rechazo en su propio CSV
+                rechazos.write(new Rechazo(lineas[item.getIndice() - filaInicial], item.getIdentificacion(),
+                        item.getEstado(), item.getMensaje()));
+            }
+        }
+        rechazos.flush();
+        importacion.registrarBloque(bloque.size(), creados);
+    }
+
+    private void verificarColumnas(MappingIterator<SocioRequestDTO> filas) throws IOException {
+        // La cabecera se lee junto con la primera fila
+        filas.hasNextValue();
+        CsvSchema cabecera = (CsvSchema) filas.getParserSchema();
+        List<String> faltantes = Stream.of(COLUMNAS_OBLIGATORIAS)
+                .filter(columna -> cabecera == null || cabecera.column(columna) == null)
+                .toList();
+        if (!faltantes.isEmpty()) {
+            throw new IllegalArgumentException("Faltan columnas en la cabecera: " + String.join(", ", faltantes));
+        }
+    }
+
+    private long copiar(InputStream origen, Path destino) throws IOException {
+        byte[] buffer = new byte[64 * 1024];
+        long total = 0;
+        try (OutputStream salida = Files.newOutputStream(destino)) {
+            int leidos;
+            while ((leidos = origen.read(buffer)) != -1) {
+                total += leidos;
+                if (total > tamanioMaximo) {
+                    throw new IllegalArgumentException("El archivo supera el tamaño máximo de "
+                            + DataSize.ofBytes(tamanioMaximo).toMegabytes() + " MB");
+                }
+                salida.write(buffer, 0, leidos);
+            }
+        }
+        return total;
+    }
+
+    private ImportacionSocios buscar(UUID id) {
+        return Optional.ofNullable(importaciones.getIfPresent(id))
+                .orElseThrow(() -> new EntityNotFoundException("Importación no encontrada"));
+    }
+
+    private static void borrar(Path archivo) {
+        try {
+            Files.deleteIfExists(archivo);
+        } catch (IOException e) {
+            log.warn("No se pudo borrar el archivo temporal {}: {}", archivo, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void detener() {
+        ejecutor.shutdownNow();
+    }
+
+    @JsonPropertyOrder({"linea", "identificacion", "estado", "motivo"})
+    record Rechazo(long linea, String identificacion, EstadoItemLote estado, String motivo) {
+    }
+}
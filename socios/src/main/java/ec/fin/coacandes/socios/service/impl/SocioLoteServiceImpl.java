@@ -0,0 +1,201 @@
+package ec.fin.coacandes.socios.service.impl;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ec.fin.coacandes.socios.dto.EstadoItemLote;
+import ec.fin.coacandes.socios.dto.ResultadoItemLoteDTO;
+import ec.fin.coacandes.socios.dto.ResultadoLoteDTO;
+import ec.fin.coacandes.socios.dto.SocioRequestDTO;
+import ec.fin.coacandes.socios.dto.TipoEventoSocio;
+import ec.fin.coacandes.socios.entity.Socio;
+import ec.fin.coacandes.socios.mapper.SocioMapper;
+import ec.fin.coacandes.socios.repository.SocioRepository;
+import ec.fin.coacandes.socios.service.SocioLoteService;
+import ec.fin.coacandes.socios.service.SocioOutboxService;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@RegisterReflectionForBinding(SocioRequestDTO.class)
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SocioLoteServiceImpl implements SocioLoteService {
+
+    // Igual a hibernate.jdbc.batch_size: un bloque se envía en un único lote JDBC
+    static final int TAMANIO_BLOQUE = 500;
+
+    private final SocioRepository socioRepository;
+    private final SocioMapper socioMapper;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final SocioOutboxService socioOutboxService;
+    private final FiltroIdentificaciones filtroIdentificaciones;
+    private final IndiceIdentificaciones indiceIdentificaciones;
+
+    @Override
+    public ResultadoLoteDTO crearEnLote(InputStream json) {
+        ResultadoLoteDTO resultado = new ResultadoLoteDTO();
+        List<SocioRequestDTO> bloque = new ArrayList<>(TAMANIO_BLOQUE);
+        int indice = 0;
+        String error = null;
+
+        try (JsonParser parser = objectMapper.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("Se esperaba un arreglo JSON de socios");
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                bloque.add(objectMapper.readValue(parser, SocioRequestDTO.class));
+                if (bloque.size() == TAMANIO_BLOQUE) {
+                    procesarBloque(bloque, indice).forEach(resultado::agregar);
+                    indice += bloque.size();
+                    bloque.clear();
+                }
+            }
+            if (parser.currentToken() != JsonToken.END_ARRAY) {
+                error = "Cada elemento del arreglo debe ser un objeto socio";
+            }
+        } catch (IOException e) {
+            error = "JSON inválido: " + e.getMessage();
+        }
+
+        // Sin nada leído no hay nada que informar por elemento
+        if (error != null && indice + bloque.size() == 0) {
+            throw new IllegalArgumentException(error);
+        }
+        if (!bloque.isEmpty()) {
+            procesarBloque(bloque, indice).forEach(resultado::agregar);
+            indice += bloque.size();
+        }
+        // Los bloques anteriores ya están confirmados: se responde con su resultado por elemento y se marca
+        // la posición donde se detuvo la lectura, para que el cliente reintente solo desde ahí
+        if (error != null) {
+            resultado.agregar(new ResultadoItemLoteDTO(indice, null, EstadoItemLote.ERROR, null,
+                    error + "; no se procesaron este elemento ni los siguientes"));
+        }
+        log.info("Creación en lote finalizada: {} recibidos, {} creados, {} rechazados",
+                resultado.getTotal(), resultado.getCreados(), resultado.getRechazados());
+        return resultado;
+    }
+
+    @Override
+    public List<ResultadoItemLoteDTO> procesarBloque(List<SocioRequestDTO> bloque, int indiceInicial) {
+        ResultadoItemLoteDTO[] items = new ResultadoItemLoteDTO[bloque.size()];
+        Set<String> identificacionesBloque = new HashSet<>();
+
+        for (int i = 0; i < bloque.size(); i++) {
+            SocioRequestDTO request = bloque.get(i);
+            String errores = validar(request);
+            if (errores != null) {
+                items[i] = rechazado(indiceInicial + i, request, EstadoItemLote.INVALIDO, errores);
+            } else if (!identificacionesBloque.add(request.getIdentificacion())) {
+                items[i] = rechazado(indiceInicial + i, request, EstadoItemLote.DUPLICADO,
+                        "Identificación repetida en el lote");
+            }
+        }
+
+        Set<String> existentes = identificacionesBloque.isEmpty()
+                ? Set.of()
+                : new HashSet<>(filtroIdentificaciones.buscarExistentes(identificacionesBloque));
+
+        List<Integer> posiciones = new ArrayList<>();
+        List<Socio> nuevos = new ArrayList<>();
+        for (int i = 0; i < bloque.size(); i++) {
+            if (items[i] != null) {
+                continue;
+            }
+            SocioRequestDTO request = bloque.get(i);
+            if (existentes.contains(request.getIdentificacion())) {
+                items[i] = rechazado(indiceInicial + i, request, EstadoItemLote.DUPLICADO,
+                        "Ya existe un socio con esta identificación");
+            } else {
+                posiciones.add(i);
+                nuevos.add(socioMapper.aEntidad(request));
+            }
+        }
+
+        if (!nuevos.isEmpty()) {
+            try {
+                insertar(nuevos);
+                for (int j = 0; j < nuevos.size(); j++) {
+                    items[posiciones.get(j)] = creado(indiceInicial + posiciones.get(j), nuevos.get(j));
+                }
+            } catch (DataIntegrityViolationException e) {
+                // Otro campo único (email) o una inserción concurrente: se reintenta fila por fila
+                log.warn("Bloque desde {} rechazado por integridad, reintentando por fila", indiceInicial);
+                for (int posicion : posiciones) {
+                    items[posicion] = insertarIndividual(indiceInicial + posicion, bloque.get(posicion));
+                }
+            }
+        }
+
+        return Arrays.asList(items);
+    }
+
+    private void insertar(List<Socio> socios) {
+        transactionTemplate.execute(status -> {
+            socioRepository.saveAll(socios);
+            socioRepository.flush();
+            // Los eventos se registran tras el flush, cuando el socio ya tiene sus fechas asignadas
+            for (Socio socio : socios) {
+                socioOutboxService.registrar(TipoEventoSocio.SOCIO_CREADO, socio.getId(), socioMapper.aRespuesta(socio));
+                filtroIdentificaciones.agregar(socio.getIdentificacion());
+                indiceIdentificaciones.registrar(socio.getIdentificacion(), socio.getId());
+            }
+            socioRepository.flush();
+            // El contexto de persistencia puede vivir toda la petición (open-in-view)
+            entityManager.clear();
+            return null;
+        });
+    }
+
+    private ResultadoItemLoteDTO insertarIndividual(int indice, SocioRequestDTO request) {
+        Socio socio = socioMapper.aEntidad(request);
+        try {
+            insertar(List.of(socio));
+            return creado(indice, socio);
+        } catch (DataIntegrityViolationException e) {
+            return rechazado(indice, request, EstadoItemLote.DUPLICADO,
+                    "Ya existe un socio con esta identificación o email");
+        } catch (RuntimeException e) {
+            return rechazado(indice, request, EstadoItemLote.ERROR, e.getMessage());
+        }
+    }
+
+    private String validar(SocioRequestDTO request) {
+        Set<ConstraintViolation<SocioRequestDTO>> violaciones = validator.validate(request);
+        if (violaciones.isEmpty()) {
+            return null;
+        }
+        return violaciones.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private ResultadoItemLoteDTO creado(int indice, Socio socio) {
+        return new ResultadoItemLoteDTO(indice, socio.getIdentificacion(), EstadoItemLote.CREADO, socio.getId(), null);
+    }
+
+    private ResultadoItemLoteDTO rechazado(int indice, SocioRequestDTO request, EstadoItemLote estado, String mensaje) {
+        return new ResultadoItemLoteDTO(indice, request.getIdentificacion(), estado, null, mensaje);
+    }
+}
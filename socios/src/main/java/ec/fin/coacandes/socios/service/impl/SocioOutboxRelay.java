@@ -0,0 +1,139 @@
+package ec.fin.coacandes.socios.service.impl;
+
+import ec.fin.coacandes.socios.dto.EventoSocioDTO;
+import ec.fin.coacandes.socios.entity.EventoSocio;
+import ec.fin.coacandes.socios.repository.EventoSocioRepository;
+import ec.fin.coacandes.socios.service.DestinoEventos;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publica los eventos del outbox en lotes. La entrega es al menos una vez: si el destino acepta el lote
+ * pero la transacción no llega a confirmarse, los eventos se vuelven a publicar en la siguiente pasada.
+ */
+@Component
+@ConditionalOnProperty(name = "socios.outbox.relay.habilitado", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class SocioOutboxRelay {
+
+    static final String METRICA_PUBLICADOS = "socios.outbox.publicados";
+    static final String METRICA_FALLIDOS = "socios.outbox.fallidos";
+    static final String METRICA_LOTE = "socios.outbox.lote";
+    static final String METRICA_LATENCIA = "socios.outbox.latencia";
+    static final String METRICA_RETRASO = "socios.outbox.retraso";
+
+    private final EventoSocioRepository eventoSocioRepository;
+    private final DestinoEventos destino;
+    private final TransactionTemplate transactionTemplate;
+    private final int tamanioLote;
+
+    private final Counter publicados;
+    private final Counter fallidos;
+    private final Timer duracionLote;
+    private final Timer latencia;
+    // Antigüedad en segundos del evento pendiente más antiguo al final de la última pasada
+    private final AtomicLong retrasoSegundos = new AtomicLong();
+
+    public SocioOutboxRelay(EventoSocioRepository eventoSocioRepository,
+                            DestinoEventos destino,
+                            TransactionTemplate transactionTemplate,
+                            MeterRegistry registry,
+                            @Value("${socios.outbox.tamanio-lote:500}") int tamanioLote) {
+        this.eventoSocioRepository = eventoSocioRepository;
+        this.destino = destino;
+        this.transactionTemplate = transactionTemplate;
+        this.tamanioLote = tamanioLote;
+
+        this.publicados = Counter.builder(METRICA_PUBLICADOS)
+                .description("Eventos entregados al destino")
+                .register(registry);
+        this.fallidos = Counter.builder(METRICA_FALLIDOS)
+                .description("Eventos cuyo lote falló y se reintentará")
+                .register(registry);
+        this.duracionLote = Timer.builder(METRICA_LOTE)
+                .description("Duración de cada lote: lectura, publicación y borrado")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.latencia = Timer.builder(METRICA_LATENCIA)
+                .description("Tiempo entre el registro de un evento y su publicación")
+                .publishPercentileHistogram()
+                .register(registry);
+        Gauge.builder(METRICA_RETRASO, retrasoSegundos, AtomicLong::get)
+                .description("Antigüedad del evento pendiente más antiguo")
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+    @Scheduled(fixedDelayString = "${socios.outbox.intervalo:PT1S}")
+    public void publicarPendientes() {
+        try {
+            // Se vacía la cola lote a lote; un lote incompleto indica que no queda nada pendiente
+            int procesados;
+            do {
+                procesados = publicarLote();
+            } while (procesados == tamanioLote);
+        } catch (RuntimeException e) {
+            log.warn("Fallo al publicar eventos del outbox, se reintentará: {}", e.getMessage());
+        } finally {
+            actualizarRetraso();
+        }
+    }
+
+    int publicarLote() {
+        Timer.Sample muestra = Timer.start();
+        Integer procesados = transactionTemplate.execute(status -> {
+            List<EventoSocio> pendientes = eventoSocioRepository.findPendientes(PageRequest.ofSize(tamanioLote));
+            if (pendientes.isEmpty()) {
+                return 0;
+            }
+            List<EventoSocioDTO> eventos = new ArrayList<>(pendientes.size());
+            for (EventoSocio pendiente : pendientes) {
+                eventos.add(new EventoSocioDTO(pendiente.getId(), pendiente.getTipo(), pendiente.getSocioId(),
+                        pendiente.getFechaCreacion(), pendiente.getContenido()));
+            }
+
+            try {
+                destino.publicar(eventos);
+            } catch (Exception e) {
+                fallidos.increment(eventos.size());
+                throw new IllegalStateException("El destino rechazó el lote: " + e.getMessage(), e);
+            }
+
+            eventoSocioRepository.deleteAllInBatch(pendientes);
+            LocalDateTime ahora = LocalDateTime.now();
+            for (EventoSocio pendiente : pendientes) {
+                latencia.record(Duration.between(pendiente.getFechaCreacion(), ahora));
+            }
+            publicados.increment(pendientes.size());
+            return pendientes.size();
+        });
+        muestra.stop(duracionLote);
+        return procesados == null ? 0 : procesados;
+    }
+
+    private void actualizarRetraso() {
+        try {
+            long segundos = eventoSocioRepository.findFechaPendienteMasAntigua()
+                    .map(fecha -> Duration.between(fecha, LocalDateTime.now()).toSeconds())
+                    .orElse(0L);
+            retrasoSegundos.set(Math.max(segundos, 0));
+        } catch (RuntimeException e) {
+            log.debug("No se pudo calcular el retraso del outbox: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package ec.fin.coacandes.socios.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ec.fin.coacandes.socios.dto.TipoEventoSocio;
+import ec.fin.coacandes.socios.entity.EventoSocio;
+import ec.fin.coacandes.socios.repository.EventoSocioRepository;
+import ec.fin.coacandes.socios.service.SocioOutboxService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class SocioOutboxServiceImpl implements SocioOutboxService {
+
+    private final EventoSocioRepository eventoSocioRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrar(TipoEventoSocio tipo, UUID socioId, Object contenido) {
+        EventoSocio evento = new EventoSocio();
+        evento.setTipo(tipo);
+        evento.setSocioId(socioId);
+        try {
+            evento.setContenido(objectMapper.writeValueAsString(contenido));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar el evento " + tipo + " del socio " + socioId, e);
+        }
+        eventoSocioRepository.save(evento);
+    }
+}
@@ -1,17 +1,45 @@
 package ec.fin.coacandes.socios.service.impl;
 
+import ec.fin.coacandes.socios.config.CacheConfig;
+import ec.fin.coacandes.socios.dto.CampoSocio;
+import ec.fin.coacandes.socios.dto.ConsultaMasivaRequestDTO;
+import ec.fin.coacandes.socios.dto.ConsultaMasivaResponseDTO;
+import ec.fin.coacandes.socios.dto.PaginaCamposSocioDTO;
+import ec.fin.coacandes.socios.dto.PaginaSociosDTO;
+import ec.fin.coacandes.socios.dto.SocioPatchDTO;
 import ec.fin.coacandes.socios.dto.SocioRequestDTO;
 import ec.fin.coacandes.socios.dto.SocioResponseDTO;
+import ec.fin.coacandes.socios.dto.TipoEventoSocio;
 import ec.fin.coacandes.socios.entity.Socio;
+import ec.fin.coacandes.socios.exception.VersionNoCoincideException;
+import ec.fin.coacandes.socios.mapper.SocioMapper;
+import ec.fin.coacandes.socios.repository.SocioEliminadoRepository;
 import ec.fin.coacandes.socios.repository.SocioRepository;
+import ec.fin.coacandes.socios.service.SocioOutboxService;
 import ec.fin.coacandes.socios.service.SocioService;
+import ec.fin.coacandes.socios.validation.IdentificacionEcuatoriana;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.Tuple;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -20,71 +48,316 @@ import java.util.stream.Collectors;
 @Transactional
 public class SocioServiceImpl implements SocioService {
 
+    static final int TAMANIO_MAXIMO_PAGINA = 500;
+
     private final SocioRepository socioRepository;
-    private final ModelMapper modelMapper;
+    private final SocioEliminadoRepository socioEliminadoRepository;
+    private final SocioMapper socioMapper;
+    private final CacheManager cacheManager;
+    private final SocioOutboxService socioOutboxService;
+    private final FiltroIdentificaciones filtroIdentificaciones;
+    private final IndiceIdentificaciones indiceIdentificaciones;
 
 
     @Override
     public SocioResponseDTO crearSocio(SocioRequestDTO request) {
-        // Validar identificación única
-        if (socioRepository.existsByIdentificacion(request.getIdentificacion())) {
-            throw new IllegalArgumentException("Ya existe un socio con esta identificación");
-        }
+        Socio socio = socioMapper.aEntidad(request);
 
-        Socio socio = modelMapper.map(request, Socio.class);
+        // La unicidad de identificación y email la garantizan los índices únicos: un duplicado
+        // produce DataIntegrityViolationException, que GlobalExceptionHandler responde con 400
+        Socio guardado = socioRepository.saveAndFlush(socio);
+        filtroIdentificaciones.agregar(guardado.getIdentificacion());
+        indiceIdentificaciones.registrar(guardado.getIdentificacion(), guardado.getId());
+        SocioResponseDTO respuesta = socioMapper.aRespuesta(guardado);
+        socioOutboxService.registrar(TipoEventoSocio.SOCIO_CREADO, guardado.getId(), respuesta);
+        return respuesta;
+    }
 
-        Socio guardado = socioRepository.save(socio);
-        return modelMapper.map(guardado, SocioResponseDTO.class);
+    @Override
+    public SocioResponseDTO actualizarSocio(UUID id, SocioRequestDTO request, Long versionEsperada) {
+        Socio socio = socioRepository.findByIdAndActivoTrue(id)
+                .orElseThrow(() -> new EntityNotFoundException("Socio no encontrado"));
+        verificarVersion(socio, versionEsperada);
+        String identificacionAnterior = socio.getIdentificacion();
+
+        invalidarCache(id, identificacionAnterior);
+
+        socioMapper.actualizarEntidad(request, socio);
+
+        // Igual que en la creación, un cambio a una identificación o email ya registrado
+        // lo detecta el índice único al sincronizar
+        Socio actualizado = socioRepository.saveAndFlush(socio);
+        filtroIdentificaciones.agregar(actualizado.getIdentificacion());
+        actualizarIndice(identificacionAnterior, actualizado);
+        SocioResponseDTO respuesta = socioMapper.aRespuesta(actualizado);
+        socioOutboxService.registrar(TipoEventoSocio.SOCIO_ACTUALIZADO, id, respuesta);
+        return respuesta;
     }
 
     @Override
-    public SocioResponseDTO actualizarSocio(UUID id, SocioRequestDTO request) {
-        Socio socio = socioRepository.findById(id)
+    public SocioResponseDTO parchearSocio(UUID id, SocioPatchDTO cambios, Long versionEsperada) {
+        Socio socio = socioRepository.findByIdAndActivoTrue(id)
                 .orElseThrow(() -> new EntityNotFoundException("Socio no encontrado"));
+        verificarVersion(socio, versionEsperada);
+        verificarIdentificacion(socio, cambios);
+        Long versionAnterior = socio.getVersion();
+        String identificacionAnterior = socio.getIdentificacion();
 
-        // Validar si cambia la identificación
-        if (!socio.getIdentificacion().equals(request.getIdentificacion()) &&
-                socioRepository.existsByIdentificacion(request.getIdentificacion())) {
-            throw new IllegalArgumentException("La nueva identificación ya está registrada");
-        }
+        invalidarCache(id, identificacionAnterior);
 
-        modelMapper.map(request, socio);
+        socioMapper.aplicarCambios(cambios, socio);
 
-        Socio actualizado = socioRepository.save(socio);
-        return modelMapper.map(actualizado, SocioResponseDTO.class);
+        // Hibernate solo escribe si algún campo cambió, y con @DynamicUpdate solo esas columnas
+        Socio actualizado = socioRepository.saveAndFlush(socio);
+        filtroIdentificaciones.agregar(actualizado.getIdentificacion());
+        actualizarIndice(identificacionAnterior, actualizado);
+        SocioResponseDTO respuesta = socioMapper.aRespuesta(actualizado);
+
+        // Sin UPDATE la versión no avanza: un PATCH que no cambia nada no publica evento
+        if (!Objects.equals(versionAnterior, actualizado.getVersion())) {
+            socioOutboxService.registrar(TipoEventoSocio.SOCIO_ACTUALIZADO, id, respuesta);
+        }
+        return respuesta;
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.SOCIOS_POR_ID, key = "#id")
+    @Transactional(readOnly = true)
     public SocioResponseDTO obtenerSocioPorId(UUID id) {
-        Socio socio = socioRepository.findById(id)
+        Socio socio = socioRepository.findByIdAndActivoTrue(id)
+                .orElseThrow(() -> new EntityNotFoundException("Socio no encontrado"));
+        return socioMapper.aRespuesta(socio);
+    }
+
+    // El socio en caché ya trae su versión: solo un fallo de caché consulta la proyección, y sin abrir
+    // una transacción propia para el acierto
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Long obtenerVersion(UUID id) {
+        Cache cache = cacheManager.getCache(CacheConfig.SOCIOS_POR_ID);
+        SocioResponseDTO enCache = cache == null ? null : cache.get(id, SocioResponseDTO.class);
+        if (enCache != null && enCache.getVersion() != null) {
+            return enCache.getVersion();
+        }
+        return socioRepository.findVersionById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Socio no encontrado"));
-        return modelMapper.map(socio, SocioResponseDTO.class);
     }
 
     @Override
-    public List<SocioResponseDTO> obtenerTodosLosSocios() {
-        return socioRepository.findAll().stream()
-                .map(socio -> modelMapper.map(socio, SocioResponseDTO.class))
+    @Transactional(readOnly = true)
+    public PaginaSociosDTO obtenerTodosLosSocios(String cursor, int tamanio) {
+        int limite = limitePagina(tamanio);
+
+        // Se pide un registro extra para saber si existe una página siguiente
+        Pageable pagina = PageRequest.ofSize(limite + 1);
+        List<Socio> socios;
+        if (cursor == null || cursor.isBlank()) {
+            socios = socioRepository.findPrimeraPagina(pagina);
+        } else {
+            SocioCursor posicion = SocioCursor.decodificar(cursor);
+            socios = socioRepository.findPaginaDespuesDe(posicion.fecha(), posicion.id(), pagina);
+        }
+
+        String siguienteCursor = null;
+        if (socios.size() > limite) {
+            socios = socios.subList(0, limite);
+            Socio ultimo = socios.get(limite - 1);
+            siguienteCursor = new SocioCursor(ultimo.getFechaCreacion(), ultimo.getId()).codificar();
+        }
+
+        List<SocioResponseDTO> contenido = socios.stream()
+                .map(socioMapper::aRespuesta)
                 .collect(Collectors.toList());
+        return new PaginaSociosDTO(contenido, siguienteCursor);
     }
 
     @Override
-    public void eliminarSocio(UUID id) {
-        Socio socio = socioRepository.findById(id)
+    @Transactional(readOnly = true)
+    public PaginaCamposSocioDTO obtenerCamposDeSocios(String cursor, int tamanio, Set<CampoSocio> campos) {
+        int limite = limitePagina(tamanio);
+
+        SocioCursor posicion = cursor == null || cursor.isBlank() ? null : SocioCursor.decodificar(cursor);
+        List<Tuple> filas = socioRepository.findCamposPagina(campos,
+                posicion == null ? null : posicion.fecha(),
+                posicion == null ? null : posicion.id(),
+                limite + 1);
+
+        String siguienteCursor = null;
+        if (filas.size() > limite) {
+            filas = filas.subList(0, limite);
+            Tuple ultima = filas.get(limite - 1);
+            siguienteCursor = new SocioCursor(
+                    ultima.get(CampoSocio.FECHA_CREACION.getPropiedad(), LocalDateTime.class),
+                    ultima.get(CampoSocio.ID.getPropiedad(), UUID.class)).codificar();
+        }
+
+        List<Map<String, Object>> contenido = new ArrayList<>(filas.size());
+        for (Tuple fila : filas) {
+            contenido.add(aMapa(fila, campos));
+        }
+        return new PaginaCamposSocioDTO(contenido, siguienteCursor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Object> obtenerCamposPorIdentificacion(String identificacion, Set<CampoSocio> campos) {
+        return socioRepository.findCamposPorIdentificacion(campos, identificacion)
+                .map(fila -> aMapa(fila, campos))
                 .orElseThrow(() -> new EntityNotFoundException("Socio no encontrado"));
+    }
 
-        socioRepository.deleteById(id);
+    @Override
+    public void eliminarSocio(UUID id, Long versionEsperada) {
+        // Baja lógica: un único UPDATE; si no afecta filas el socio no existe, ya estaba inactivo
+        // o, con If-Match, su versión cambió. Solo en ese último caso se consulta cuál fue
+        LocalDateTime ahora = LocalDateTime.now();
+        int filas = versionEsperada == null
+                ? socioRepository.desactivar(id, ahora)
+                : socioRepository.desactivarSiVersion(id, versionEsperada, ahora);
+        if (filas == 0) {
+            if (versionEsperada != null && socioRepository.existsByIdAndActivoTrue(id)) {
+                throw new VersionNoCoincideException();
+            }
+            throw new EntityNotFoundException("Socio no encontrado");
+        }
+        socioOutboxService.registrar(TipoEventoSocio.SOCIO_ELIMINADO, id, Map.of("id", id));
+
+        // Sin leer la fila no se conoce la identificación: se vacía la caché por identificación
+        // completa. Las bajas son poco frecuentes frente a las consultas
+        cacheTransaccional(CacheConfig.SOCIOS_POR_ID).ifPresent(cache -> cache.evict(id));
+        cacheTransaccional(CacheConfig.SOCIOS_POR_IDENTIFICACION).ifPresent(Cache::clear);
     }
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.SOCIOS_POR_IDENTIFICACION, key = "#identificacion")
+    @Transactional(readOnly = true)
     public SocioResponseDTO obtenerSocioPorIdentificacion(String identificacion) {
-        Socio socio = socioRepository.findByIdentificacion(identificacion)
+        Socio socio = buscarActivoPorIdentificacion(identificacion)
                 .orElseThrow(() -> new EntityNotFoundException("Socio no encontrado"));
-        return modelMapper.map(socio, SocioResponseDTO.class);
+        return socioMapper.aRespuesta(socio);
+    }
+
+    // El índice en memoria solo sugiere el id; la fila leída por clave primaria decide
+    private Optional<Socio> buscarActivoPorIdentificacion(String identificacion) {
+        UUID id = indiceIdentificaciones.buscar(identificacion);
+        if (id != null) {
+            Optional<Socio> sugerido = socioRepository.findById(id);
+            if (sugerido.isPresent() && identificacion.equals(sugerido.get().getIdentificacion())) {
+                // El índice único cubre también a los dados de baja: si es de un socio inactivo, no hay otro
+                return sugerido.filter(encontrado -> Boolean.TRUE.equals(encontrado.getActivo()));
+            }
+            indiceIdentificaciones.descartar(identificacion, id);
+        }
+        Optional<Socio> socio = socioRepository.findByIdentificacionAndActivoTrue(identificacion);
+        socio.ifPresent(encontrado -> indiceIdentificaciones.registrar(encontrado.getIdentificacion(), encontrado.getId()));
+        return socio;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ConsultaMasivaResponseDTO buscarVarios(ConsultaMasivaRequestDTO consulta) {
+        Set<UUID> ids = consulta.getIds() == null
+                ? Set.of() : new LinkedHashSet<>(consulta.getIds());
+        Set<String> identificaciones = consulta.getIdentificaciones() == null
+                ? Set.of() : new LinkedHashSet<>(consulta.getIdentificaciones());
+        if (ids.size() + identificaciones.size() > ConsultaMasivaRequestDTO.MAXIMO_CLAVES) {
+            throw new IllegalArgumentException("Se admiten como máximo "
+                    + ConsultaMasivaRequestDTO.MAXIMO_CLAVES + " claves por consulta");
+        }
+
+        // Una consulta IN por tipo de clave; un socio pedido por ambas claves se devuelve una vez
+        Map<UUID, Socio> encontrados = new LinkedHashMap<>();
+        if (!ids.isEmpty()) {
+            socioRepository.findByIdInAndActivoTrue(ids).forEach(socio -> encontrados.put(socio.getId(), socio));
+        }
+        Set<String> identificacionesEncontradas = new LinkedHashSet<>();
+        if (!identificaciones.isEmpty()) {
+            for (Socio socio : socioRepository.findByIdentificacionInAndActivoTrue(identificaciones)) {
+                encontrados.putIfAbsent(socio.getId(), socio);
+                identificacionesEncontradas.add(socio.getIdentificacion());
+            }
+        }
+
+        List<UUID> idsNoEncontrados = new ArrayList<>();
+        for (UUID id : ids) {
+            if (!encontrados.containsKey(id)) {
+                idsNoEncontrados.add(id);
+            }
+        }
+        List<String> identificacionesNoEncontradas = new ArrayList<>();
+        for (String identificacion : identificaciones) {
+            if (!identificacionesEncontradas.contains(identificacion)) {
+                identificacionesNoEncontradas.add(identificacion);
+            }
+        }
+
+        List<SocioResponseDTO> respuesta = encontrados.values().stream()
+                .map(socioMapper::aRespuesta)
+                .collect(Collectors.toList());
+        return new ConsultaMasivaResponseDTO(respuesta, idsNoEncontrados, identificacionesNoEncontradas);
     }
 
     @Override
     public void eliminarTodos() {
+        socioEliminadoRepository.registrarTodos(LocalDateTime.now());
         socioRepository.deleteAll();
+        cacheTransaccional(CacheConfig.SOCIOS_POR_ID).ifPresent(Cache::clear);
+        cacheTransaccional(CacheConfig.SOCIOS_POR_IDENTIFICACION).ifPresent(Cache::clear);
+    }
+
+    private static int limitePagina(int tamanio) {
+        if (tamanio < 1) {
+            throw new IllegalArgumentException("El tamaño de página debe ser mayor a cero");
+        }
+        return Math.min(tamanio, TAMANIO_MAXIMO_PAGINA);
+    }
+
+    // Solo los campos pedidos, en el orden en que están declarados en CampoSocio
+    private static Map<String, Object> aMapa(Tuple fila, Set<CampoSocio> campos) {
+        Map<String, Object> mapa = new LinkedHashMap<>();
+        for (CampoSocio campo : campos) {
+            mapa.put(campo.getPropiedad(), fila.get(campo.getPropiedad()));
+        }
+        return mapa;
+    }
+
+    // El DTO solo valida los campos enviados: si cambia uno solo, se valida contra el otro ya guardado
+    private void verificarIdentificacion(Socio socio, SocioPatchDTO cambios) {
+        if (cambios.getIdentificacion() == null && cambios.getTipoIdentificacion() == null) {
+            return;
+        }
+        String identificacion = Objects.requireNonNullElse(cambios.getIdentificacion(), socio.getIdentificacion());
+        String tipo = Objects.requireNonNullElse(cambios.getTipoIdentificacion(), socio.getTipoIdentificacion());
+        if (!IdentificacionEcuatoriana.esValida(identificacion, tipo)) {
+            throw new IllegalArgumentException("La identificación no corresponde al tipo de identificación " + tipo);
+        }
+    }
+
+    // La comprobación en memoria cubre la precondición del cliente; una escritura concurrente entre
+    // esta lectura y el flush la detecta Hibernate con la versión en el WHERE del UPDATE
+    private void verificarVersion(Socio socio, Long versionEsperada) {
+        if (versionEsperada != null && !versionEsperada.equals(socio.getVersion())) {
+            throw new VersionNoCoincideException();
+        }
+    }
+
+    // Sin cambio de identificación el índice ya está al día
+    private void actualizarIndice(String identificacionAnterior, Socio actualizado) {
+        if (!Objects.equals(identificacionAnterior, actualizado.getIdentificacion())) {
+            indiceIdentificaciones.quitar(identificacionAnterior, actualizado.getId());
+            indiceIdentificaciones.registrar(actualizado.getIdentificacion(), actualizado.getId());
+        }
+    }
+
+    // La invalidación se aplica al confirmar la transacción, así una lectura concurrente
+    // no vuelve a cachear el estado anterior
+    private void invalidarCache(UUID id, String identificacion) {
+        cacheTransaccional(CacheConfig.SOCIOS_POR_ID).ifPresent(cache -> cache.evict(id));
+        cacheTransaccional(CacheConfig.SOCIOS_POR_IDENTIFICACION).ifPresent(cache -> cache.evict(identificacion));
+    }
+
+    private Optional<Cache> cacheTransaccional(String nombre) {
+        return Optional.ofNullable(cacheManager.getCache(nombre))
+                .map(TransactionAwareCacheDecorator::new);
     }
 }
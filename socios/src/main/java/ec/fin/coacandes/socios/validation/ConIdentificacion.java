@@ -0,0 +1,11 @@
+package ec.fin.coacandes.socios.validation;
+
+/**
+ * DTO con identificación y tipo de identificación, validables juntos con {@link IdentificacionValida}.
+ */
+public interface ConIdentificacion {
+
+    String getIdentificacion();
+
+    String getTipoIdentificacion();
+}
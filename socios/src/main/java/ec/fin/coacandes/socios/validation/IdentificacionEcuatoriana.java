@@ -0,0 +1,120 @@
+package ec.fin.coacandes.socios.validation;
+
+/**
+ * Validación de cédulas y RUC ecuatorianos por dígito verificador.
+ * <p>
+ * Recorre los caracteres una sola vez, sin expresiones regulares ni objetos intermedios: se ejecuta en
+ * cada alta, actualización e importación.
+ * <ul>
+ *   <li>Cédula: 10 dígitos, provincia 01-24 o 30, tercer dígito 0-5 y verificador módulo 10.</li>
+ *   <li>RUC de persona natural (tercer dígito 0-5): cédula válida seguida de un establecimiento 001-999.</li>
+ *   <li>RUC de sociedad pública (6): verificador módulo 11 en la posición 9 y establecimiento 0001-9999.</li>
+ *   <li>RUC de sociedad privada o extranjero (9): verificador módulo 11 en la posición 10 y
+ *   establecimiento 001-999.</li>
+ * </ul>
+ */
+public final class IdentificacionEcuatoriana {
+
+    public static final String CEDULA = "CEDULA";
+    public static final String RUC = "RUC";
+
+    private static final int[] COEFICIENTES_PUBLICA = {3, 2, 7, 6, 5, 4, 3, 2};
+    private static final int[] COEFICIENTES_PRIVADA = {4, 3, 2, 7, 6, 5, 4, 3, 2};
+
+    private IdentificacionEcuatoriana() {
+    }
+
+    /**
+     * Valida la identificación según su tipo; un tipo desconocido nunca es válido.
+     */
+    public static boolean esValida(CharSequence identificacion, String tipo) {
+        if (CEDULA.equals(tipo)) {
+            return esCedulaValida(identificacion);
+        }
+        if (RUC.equals(tipo)) {
+            return esRucValido(identificacion);
+        }
+        return false;
+    }
+
+    public static boolean esTipoValido(String tipo) {
+        return CEDULA.equals(tipo) || RUC.equals(tipo);
+    }
+
+    public static boolean esCedulaValida(CharSequence cedula) {
+        return cedula != null
+                && cedula.length() == 10
+                && soloDigitos(cedula)
+                && provinciaValida(cedula)
+                && digito(cedula, 2) < 6
+                && digito(cedula, 9) == digitoVerificadorCedula(cedula);
+    }
+
+    public static boolean esRucValido(CharSequence ruc) {
+        if (ruc == null || ruc.length() != 13 || !soloDigitos(ruc) || !provinciaValida(ruc)) {
+            return false;
+        }
+        int tercero = digito(ruc, 2);
+        if (tercero < 6) {
+            return digito(ruc, 9) == digitoVerificadorCedula(ruc) && numero(ruc, 10) > 0;
+        }
+        if (tercero == 6) {
+            return digito(ruc, 8) == digitoModulo11(ruc, COEFICIENTES_PUBLICA) && numero(ruc, 9) > 0;
+        }
+        if (tercero == 9) {
+            return digito(ruc, 9) == digitoModulo11(ruc, COEFICIENTES_PRIVADA) && numero(ruc, 10) > 0;
+        }
+        return false;
+    }
+
+    /**
+     * Dígito verificador módulo 10 de los nueve primeros dígitos: coeficientes 2,1,2,1...
+     * y los productos mayores que 9 se reducen restando 9.
+     */
+    public static int digitoVerificadorCedula(CharSequence digitos) {
+        int suma = 0;
+        for (int i = 0; i < 9; i++) {
+            int producto = digito(digitos, i) * (i % 2 == 0 ? 2 : 1);
+            suma += producto > 9 ? producto - 9 : producto;
+        }
+        return (10 - suma % 10) % 10;
+    }
+
+    // Un resultado de 10 no corresponde a ningún dígito, así que esa identificación nunca valida
+    private static int digitoModulo11(CharSequence digitos, int[] coeficientes) {
+        int suma = 0;
+        for (int i = 0; i < coeficientes.length; i++) {
+            suma += digito(digitos, i) * coeficientes[i];
+        }
+        int residuo = suma % 11;
+        return residuo == 0 ? 0 : 11 - residuo;
+    }
+
+    private static boolean soloDigitos(CharSequence valor) {
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 30: ecuatorianos registrados en el exterior
+    private static boolean provinciaValida(CharSequence valor) {
+        int provincia = digito(valor, 0) * 10 + digito(valor, 1);
+        return (provincia >= 1 && provincia <= 24) || provincia == 30;
+    }
+
+    private static int numero(CharSequence valor, int desde) {
+        int numero = 0;
+        for (int i = desde; i < valor.length(); i++) {
+            numero = numero * 10 + digito(valor, i);
+        }
+        return numero;
+    }
+
+    private static int digito(CharSequence valor, int posicion) {
+        return valor.charAt(posicion) - '0';
+    }
+}
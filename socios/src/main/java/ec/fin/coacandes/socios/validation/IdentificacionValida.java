@@ -0,0 +1,32 @@
+package ec.fin.coacandes.socios.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * La identificación debe ser una cédula o un RUC con dígito verificador válido, según tipoIdentificacion.
+ * <p>
+ * Los errores se reportan sobre los campos identificacion y tipoIdentificacion, no sobre el objeto.
+ * Si falta alguno de los dos no se valida: eso lo reportan @NotBlank y @NotNull. Sin tipo se acepta
+ * cualquier cédula o RUC válido, como en una actualización parcial que no cambia el tipo.
+ */
+@Documented
+@Constraint(validatedBy = IdentificacionValidaValidator.class)
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface IdentificacionValida {
+
+    String message() default "Identificación inválida";
+
+    String mensajeTipo() default "Tipo de identificación inválido";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,46 @@
+package ec.fin.coacandes.socios.validation;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class IdentificacionValidaValidator implements ConstraintValidator<IdentificacionValida, ConIdentificacion> {
+
+    private String mensaje;
+    private String mensajeTipo;
+
+    @Override
+    public void initialize(IdentificacionValida anotacion) {
+        this.mensaje = anotacion.message();
+        this.mensajeTipo = anotacion.mensajeTipo();
+    }
+
+    @Override
+    public boolean isValid(ConIdentificacion valor, ConstraintValidatorContext context) {
+        if (valor == null) {
+            return true;
+        }
+        String identificacion = valor.getIdentificacion();
+        String tipo = valor.getTipoIdentificacion();
+
+        if (tipo != null && !IdentificacionEcuatoriana.esTipoValido(tipo)) {
+            return rechazar(context, mensajeTipo, "tipoIdentificacion");
+        }
+        if (identificacion == null) {
+            return true;
+        }
+        boolean valida = tipo != null
+                ? IdentificacionEcuatoriana.esValida(identificacion, tipo)
+                : IdentificacionEcuatoriana.esCedulaValida(identificacion)
+                        || IdentificacionEcuatoriana.esRucValido(identificacion);
+        return valida || rechazar(context, mensaje, "identificacion");
+    }
+
+    // Como error de campo, igual que las demás validaciones del DTO
+    private static boolean rechazar(ConstraintValidatorContext context, String mensaje, String campo) {
+        context.disableDefaultConstraintViolation();
+        context.buildConstraintViolationWithTemplate(mensaje)
+                .addPropertyNode(campo)
+                .addConstraintViolation();
+        return false;
+    }
+}
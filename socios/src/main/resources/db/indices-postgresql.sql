@@ -0,0 +1,10 @@
+-- Índices parciales sobre socios activos. Hibernate (ddl-auto) no los puede declarar; se aplican antes
+-- del despliegue con psql (ver RENDIMIENTO.md) e IndicesParcialesInitializer los verifica al arrancar,
+-- en segundo plano y solo en PostgreSQL. Cada sentencia debe ser idempotente y no admite transacción.
+
+-- Paginación keyset de GET /api/socios: solo recorre socios vigentes
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_socios_activos_fecha_creacion_id
+    ON socios (fecha_creacion, id) WHERE activo;
+
+-- Reemplazado por el índice parcial anterior
+DROP INDEX CONCURRENTLY IF EXISTS idx_socios_fecha_creacion_id;
@@ -0,0 +1,74 @@
+package ec.fin.coacandes.socios.benchmark;
+
+import ec.fin.coacandes.socios.controller.SocioController;
+import ec.fin.coacandes.socios.dto.SocioRequestDTO;
+import ec.fin.coacandes.socios.exception.ErrorResponse;
+import ec.fin.coacandes.socios.exception.GlobalExceptionHandler;
+import jakarta.persistence.EntityNotFoundException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ruta de error: construcción de la excepción y de la respuesta en GlobalExceptionHandler.
+ * Incluye el costo de crear la excepción porque en producción se crea una por petición fallida.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GlobalExceptionHandlerBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private MethodParameter parametroCrearSocio;
+    private SocioRequestDTO request;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        handler = new GlobalExceptionHandler();
+        parametroCrearSocio = new MethodParameter(
+                SocioController.class.getMethod("crearSocio", SocioRequestDTO.class), 0);
+        request = new SocioRequestDTO();
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> noEncontrado() {
+        return handler.handleEntityNotFound(new EntityNotFoundException("Socio no encontrado"));
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> argumentoInvalido() {
+        return handler.handleIllegalArgument(
+                new IllegalArgumentException("Ya existe un socio con esta identificación"));
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> errorDeValidacion() {
+        BeanPropertyBindingResult resultado = new BeanPropertyBindingResult(request, "socioRequestDTO");
+        resultado.addError(new FieldError("socioRequestDTO", "identificacion", "Identificación inválida"));
+        resultado.addError(new FieldError("socioRequestDTO", "nombres", "Los nombres son obligatorios"));
+        return handler.handleValidationExceptions(
+                new MethodArgumentNotValidException(parametroCrearSocio, resultado));
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> errorInesperado() {
+        return handler.handleGeneralException(new IllegalStateException("Fallo inesperado"));
+    }
+}
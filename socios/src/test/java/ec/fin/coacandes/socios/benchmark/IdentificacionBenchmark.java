@@ -0,0 +1,57 @@
+package ec.fin.coacandes.socios.benchmark;
+
+import ec.fin.coacandes.socios.validation.IdentificacionEcuatoriana;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Validación de una identificación: la expresión regular que usaba @Pattern en SocioRequestDTO frente al
+ * dígito verificador de IdentificacionEcuatoriana. Con -prof gc se ve que la segunda no reserva memoria;
+ * el Matcher de la primera sí, en cada llamada.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IdentificacionBenchmark {
+
+    // Igual que el PatternValidator de Hibernate Validator: compilado una vez, un Matcher por llamada
+    private static final Pattern PATRON = Pattern.compile("^[0-9]{10,13}$");
+
+    @Param({"1712345675:CEDULA", "1790123456001:RUC", "1712345678:CEDULA"})
+    public String caso;
+
+    private String identificacion;
+    private String tipo;
+
+    @Setup
+    public void setUp() {
+        String[] partes = caso.split(":");
+        identificacion = partes[0];
+        tipo = partes[1];
+    }
+
+    @Benchmark
+    public boolean expresionRegular() {
+        return PATRON.matcher(identificacion).matches();
+    }
+
+    @Benchmark
+    public boolean digitoVerificador() {
+        return IdentificacionEcuatoriana.esValida(identificacion, tipo);
+    }
+}
@@ -0,0 +1,72 @@
+package ec.fin.coacandes.socios.benchmark;
+
+import ec.fin.coacandes.socios.service.impl.TablaIdentificaciones;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Búsqueda de identificación a id en memoria: TablaIdentificaciones (arreglos de long) frente a un
+ * HashMap&lt;String, UUID&gt;, con identificaciones al azar para que la tabla no quepa en caché.
+ * Con -p tamanio=5000000 y -Xmx2g se reproduce el tamaño objetivo; el HashMap ocupa varias veces más.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class IndiceIdentificacionesBenchmark {
+
+    private static final int CONSULTAS = 1 << 16;
+
+    @Param({"1000000"})
+    public int tamanio;
+
+    private TablaIdentificaciones tabla;
+    private Map<String, UUID> mapa;
+    private String[] consultas;
+    private int siguiente;
+
+    @Setup
+    public void setUp() {
+        tabla = new TablaIdentificaciones(tamanio);
+        mapa = new HashMap<>(tamanio * 2);
+        String[] identificaciones = new String[tamanio];
+        for (int i = 0; i < tamanio; i++) {
+            identificaciones[i] = Long.toString(1_700_000_000L + i * 13L);
+            UUID id = UUID.randomUUID();
+            tabla.poner(identificaciones[i], id);
+            mapa.put(identificaciones[i], id);
+        }
+        // Copias de las cadenas: en una petición real la identificación llega como una cadena nueva
+        consultas = new String[CONSULTAS];
+        for (int i = 0; i < CONSULTAS; i++) {
+            consultas[i] = new String(identificaciones[ThreadLocalRandom.current().nextInt(tamanio)]);
+        }
+    }
+
+    @Benchmark
+    public UUID tablaPrimitiva() {
+        return tabla.buscar(consultas[siguiente++ & (CONSULTAS - 1)]);
+    }
+
+    @Benchmark
+    public UUID hashMap() {
+        return mapa.get(consultas[siguiente++ & (CONSULTAS - 1)]);
+    }
+}
@@ -0,0 +1,106 @@
+package ec.fin.coacandes.socios.benchmark;
+
+import ec.fin.coacandes.socios.entity.UuidV7Generator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserción de filas con clave primaria UUID v4 (aleatoria, la estrategia anterior) frente a UUID v7.
+ * <p>
+ * Por defecto usa H2 en memoria. Para medir contra PostgreSQL, que además informa el tamaño del índice
+ * de la clave primaria al terminar, definir SOCIOS_BENCHMARK_URL (y _USUARIO / _CLAVE).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SocioIdBenchmark {
+
+    private static final int FILAS_POR_LOTE = 1000;
+
+    @Param({"V4", "V7"})
+    public String estrategia;
+
+    private Connection conexion;
+    private PreparedStatement insercion;
+    private String tabla;
+    private long filas;
+
+    @Setup
+    public void setUp() throws SQLException {
+        String url = System.getenv().getOrDefault("SOCIOS_BENCHMARK_URL", "jdbc:h2:mem:uuid;DB_CLOSE_DELAY=-1");
+        conexion = DriverManager.getConnection(url,
+                System.getenv().getOrDefault("SOCIOS_BENCHMARK_USUARIO", "sa"),
+                System.getenv().getOrDefault("SOCIOS_BENCHMARK_CLAVE", ""));
+        conexion.setAutoCommit(false);
+
+        tabla = "benchmark_uuid_" + estrategia.toLowerCase();
+        try (Statement sentencia = conexion.createStatement()) {
+            sentencia.execute("DROP TABLE IF EXISTS " + tabla);
+            sentencia.execute("CREATE TABLE " + tabla
+                    + " (id UUID PRIMARY KEY, identificacion VARCHAR(13) NOT NULL)");
+        }
+        conexion.commit();
+        insercion = conexion.prepareStatement("INSERT INTO " + tabla + " (id, identificacion) VALUES (?, ?)");
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        if (conexion.getMetaData().getDatabaseProductName().equals("PostgreSQL")) {
+            try (PreparedStatement consulta = conexion.prepareStatement(
+                    "SELECT pg_size_pretty(pg_relation_size(?)), pg_relation_size(?) / ?::float")) {
+                consulta.setString(1, tabla + "_pkey");
+                consulta.setString(2, tabla + "_pkey");
+                consulta.setLong(3, Math.max(filas, 1));
+                try (ResultSet resultado = consulta.executeQuery()) {
+                    resultado.next();
+                    System.out.printf("%n%s: %d filas, índice PK %s (%.1f bytes/fila)%n",
+                            estrategia, filas, resultado.getString(1), resultado.getDouble(2));
+                }
+            }
+        }
+        try (Statement sentencia = conexion.createStatement()) {
+            sentencia.execute("DROP TABLE IF EXISTS " + tabla);
+        }
+        conexion.commit();
+        insercion.close();
+        conexion.close();
+    }
+
+    // Un lote JDBC por invocación, como las inserciones de SocioLoteServiceImpl; el resultado es filas/s
+    @Benchmark
+    @OperationsPerInvocation(FILAS_POR_LOTE)
+    public void insertarLote() throws SQLException {
+        boolean v7 = estrategia.equals("V7");
+        for (int i = 0; i < FILAS_POR_LOTE; i++) {
+            insercion.setObject(1, v7 ? UuidV7Generator.siguiente() : UUID.randomUUID());
+            insercion.setString(2, "1700000000");
+            insercion.addBatch();
+        }
+        insercion.executeBatch();
+        conexion.commit();
+        filas += FILAS_POR_LOTE;
+    }
+}
@@ -0,0 +1,95 @@
+package ec.fin.coacandes.socios.benchmark;
+
+import ec.fin.coacandes.socios.dto.SocioRequestDTO;
+import ec.fin.coacandes.socios.dto.SocioResponseDTO;
+import ec.fin.coacandes.socios.entity.Socio;
+import ec.fin.coacandes.socios.mapper.SocioMapper;
+import org.mapstruct.factory.Mappers;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo por llamada del mapeo reflexivo (ModelMapper) frente al generado (MapStruct)
+ * en las tres operaciones que usa SocioServiceImpl.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SocioMapperBenchmark {
+
+    private ModelMapper modelMapper;
+    private SocioMapper socioMapper;
+    private SocioRequestDTO request;
+    private Socio socio;
+    private Socio destino;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        socioMapper = Mappers.getMapper(SocioMapper.class);
+
+        request = new SocioRequestDTO();
+        request.setIdentificacion("1712345675");
+        request.setNombres("Juan Carlos");
+        request.setApellidos("Pérez González");
+        request.setEmail("juan.perez@test.com");
+        request.setTelefono("0987654321");
+        request.setDireccion("Av. Principal 123");
+        request.setTipoIdentificacion("CEDULA");
+
+        socio = socioMapper.aEntidad(request);
+        socio.setId(UUID.randomUUID());
+        socio.setFechaCreacion(LocalDateTime.now());
+        socio.setFechaActualizacion(LocalDateTime.now());
+
+        destino = socioMapper.aEntidad(request);
+    }
+
+    @Benchmark
+    public SocioResponseDTO modelMapperEntidadARespuesta() {
+        return modelMapper.map(socio, SocioResponseDTO.class);
+    }
+
+    @Benchmark
+    public SocioResponseDTO mapstructEntidadARespuesta() {
+        return socioMapper.aRespuesta(socio);
+    }
+
+    @Benchmark
+    public Socio modelMapperRequestAEntidad() {
+        return modelMapper.map(request, Socio.class);
+    }
+
+    @Benchmark
+    public Socio mapstructRequestAEntidad() {
+        return socioMapper.aEntidad(request);
+    }
+
+    @Benchmark
+    public Socio modelMapperActualizarEntidad() {
+        modelMapper.map(request, destino);
+        return destino;
+    }
+
+    @Benchmark
+    public Socio mapstructActualizarEntidad() {
+        socioMapper.actualizarEntidad(request, destino);
+        return destino;
+    }
+}
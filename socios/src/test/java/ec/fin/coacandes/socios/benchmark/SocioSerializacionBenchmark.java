@@ -0,0 +1,83 @@
+package ec.fin.coacandes.socios.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import ec.fin.coacandes.socios.dto.SocioResponseDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialización Jackson de SocioResponseDTO: un socio y una página completa del listado.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SocioSerializacionBenchmark {
+
+    private static final int TAMANIO_PAGINA = 50;
+
+    private ObjectWriter writer;
+    private SocioResponseDTO socio;
+    private List<SocioResponseDTO> pagina;
+
+    @Setup
+    public void setUp() {
+        // Misma configuración de fechas que aplica Spring Boot al ObjectMapper de la aplicación
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        writer = objectMapper.writer();
+
+        socio = crearSocio(0);
+        pagina = new ArrayList<>(TAMANIO_PAGINA);
+        for (int i = 0; i < TAMANIO_PAGINA; i++) {
+            pagina.add(crearSocio(i));
+        }
+    }
+
+    @Benchmark
+    public byte[] serializarSocio() throws JsonProcessingException {
+        return writer.writeValueAsBytes(socio);
+    }
+
+    @Benchmark
+    public byte[] serializarPagina() throws JsonProcessingException {
+        return writer.writeValueAsBytes(pagina);
+    }
+
+    private SocioResponseDTO crearSocio(int indice) {
+        SocioResponseDTO dto = new SocioResponseDTO();
+        dto.setId(UUID.randomUUID());
+        dto.setIdentificacion(String.valueOf(1712345675L + indice));
+        dto.setNombres("Juan Carlos");
+        dto.setApellidos("Pérez González");
+        dto.setEmail("juan.perez" + indice + "@test.com");
+        dto.setTelefono("0987654321");
+        dto.setDireccion("Av. Principal 123");
+        dto.setTipoIdentificacion("CEDULA");
+        dto.setActivo(true);
+        dto.setFechaCreacion(LocalDateTime.now());
+        dto.setFechaActualizacion(LocalDateTime.now());
+        return dto;
+    }
+}
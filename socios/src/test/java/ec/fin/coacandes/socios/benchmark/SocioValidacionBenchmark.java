@@ -0,0 +1,75 @@
+package ec.fin.coacandes.socios.benchmark;
+
+import ec.fin.coacandes.socios.dto.SocioRequestDTO;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bean Validation de SocioRequestDTO tal como la ejecuta @Valid en el controlador.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SocioValidacionBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private SocioRequestDTO requestValido;
+    private SocioRequestDTO requestInvalido;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+
+        requestValido = new SocioRequestDTO();
+        requestValido.setIdentificacion("1712345675");
+        requestValido.setNombres("Juan Carlos");
+        requestValido.setApellidos("Pérez González");
+        requestValido.setEmail("juan.perez@test.com");
+        requestValido.setTelefono("0987654321");
+        requestValido.setDireccion("Av. Principal 123");
+        requestValido.setTipoIdentificacion("CEDULA");
+
+        requestInvalido = new SocioRequestDTO();
+        requestInvalido.setIdentificacion("12AB");
+        requestInvalido.setNombres("");
+        requestInvalido.setApellidos("");
+        requestInvalido.setEmail("no-es-email");
+        requestInvalido.setTelefono("123");
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<SocioRequestDTO>> validarRequestValido() {
+        return validator.validate(requestValido);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<SocioRequestDTO>> validarRequestInvalido() {
+        return validator.validate(requestInvalido);
+    }
+}
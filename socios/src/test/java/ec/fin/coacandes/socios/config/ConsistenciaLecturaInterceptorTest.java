@@ -0,0 +1,74 @@
+package ec.fin.coacandes.socios.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ConsistenciaLecturaInterceptor - Pruebas Unitarias")
+class ConsistenciaLecturaInterceptorTest {
+
+    private final ConsistenciaLecturaInterceptor interceptor =
+            new ConsistenciaLecturaInterceptor(true, Duration.ofSeconds(5));
+
+    @AfterEach
+    void tearDown() {
+        ConsistenciaLectura.limpiar();
+    }
+
+    @Test
+    @DisplayName("Escritura - Lee del primario, informa X-Last-Write y limpia al terminar")
+    void escritura_LeeDelPrimarioYLimpia() {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/api/socios/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        interceptor.preHandle(request, response, new Object());
+        boolean durante = ConsistenciaLectura.debeLeerDelPrimario();
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        // Assert
+        assertTrue(durante);
+        assertNotNull(response.getHeader(ConsistenciaLecturaInterceptor.HEADER_ULTIMA_ESCRITURA));
+        assertFalse(ConsistenciaLectura.debeLeerDelPrimario());
+    }
+
+    @Test
+    @DisplayName("Controlador asíncrono - El hilo del contenedor se libera sin la marca del primario")
+    void asincrono_LimpiaAlLiberarElHilo() {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/socios/exportar");
+        request.addHeader(ConsistenciaLecturaInterceptor.HEADER_ULTIMA_ESCRITURA, Long.toString(System.currentTimeMillis()));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        interceptor.preHandle(request, response, new Object());
+        boolean durante = ConsistenciaLectura.debeLeerDelPrimario();
+        interceptor.afterConcurrentHandlingStarted(request, response, new Object());
+
+        // Assert
+        assertTrue(durante);
+        assertFalse(ConsistenciaLectura.debeLeerDelPrimario());
+    }
+
+    @Test
+    @DisplayName("Lectura fuera de la ventana - Puede ir a la réplica")
+    void lecturaAntigua_VaALaReplica() {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/socios/1");
+        request.addHeader(ConsistenciaLecturaInterceptor.HEADER_ULTIMA_ESCRITURA,
+                Long.toString(System.currentTimeMillis() - Duration.ofMinutes(1).toMillis()));
+
+        // Act
+        interceptor.preHandle(request, new MockHttpServletResponse(), new Object());
+
+        // Assert
+        assertFalse(ConsistenciaLectura.debeLeerDelPrimario());
+    }
+}
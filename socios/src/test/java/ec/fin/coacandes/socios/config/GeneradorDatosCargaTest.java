@@ -0,0 +1,49 @@
+package ec.fin.coacandes.socios.config;
+
+import ec.fin.coacandes.socios.validation.IdentificacionEcuatoriana;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("GeneradorDatosCarga - Pruebas Unitarias")
+class GeneradorDatosCargaTest {
+
+    @Test
+    @DisplayName("Cédula - Válida como cédula y como RUC de persona natural")
+    void cedula_DigitoVerificadorValido() {
+        for (long secuencia = 0; secuencia < 10_000; secuencia += 7) {
+            // Arrange
+            String cedula = GeneradorDatosCarga.cedula(secuencia);
+
+            // Assert
+            assertEquals(10, cedula.length());
+            int provincia = Integer.parseInt(cedula.substring(0, 2));
+            assertTrue(provincia >= 1 && provincia <= 24, cedula);
+            assertTrue(cedula.charAt(2) < '6', cedula);
+            assertTrue(IdentificacionEcuatoriana.esCedulaValida(cedula), cedula);
+            assertTrue(IdentificacionEcuatoriana.esRucValido(cedula + "001"), cedula);
+        }
+    }
+
+    @Test
+    @DisplayName("Cédula - Única para cada secuencia, incluso al final del rango")
+    void cedula_UnicaPorSecuencia() {
+        // Arrange
+        Set<String> cedulas = new HashSet<>();
+
+        // Act
+        for (long secuencia = 0; secuencia < 50_000; secuencia++) {
+            cedulas.add(GeneradorDatosCarga.cedula(secuencia));
+        }
+        cedulas.add(GeneradorDatosCarga.cedula(GeneradorDatosCarga.MAXIMO_SOCIOS - 1));
+
+        // Assert
+        assertEquals(50_001, cedulas.size());
+        // Última secuencia: provincia 24, tercer dígito 5, secuencia 999999
+        assertTrue(GeneradorDatosCarga.cedula(GeneradorDatosCarga.MAXIMO_SOCIOS - 1).startsWith("245999999"));
+    }
+}
@@ -0,0 +1,33 @@
+package ec.fin.coacandes.socios.config;
+
+import ec.fin.coacandes.socios.entity.UuidV7Generator;
+import ec.fin.coacandes.socios.validation.IdentificacionValidaValidator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.core.io.ClassPathResource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ImagenNativaConfig - Pruebas Unitarias")
+class ImagenNativaConfigTest {
+
+    @Test
+    @DisplayName("Pistas - Generador de ids, validador y script de índices")
+    void pistas_Registradas() throws Exception {
+        // Arrange
+        RuntimeHints hints = new RuntimeHints();
+
+        // Act
+        new ImagenNativaConfig.Pistas().registerHints(hints, getClass().getClassLoader());
+
+        // Assert
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onConstructor(UuidV7Generator.class.getDeclaredConstructor()).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onConstructor(IdentificacionValidaValidator.class.getDeclaredConstructor()).test(hints));
+        assertTrue(RuntimeHintsPredicates.resource().forResource(IndicesParcialesInitializer.SCRIPT).test(hints));
+        assertTrue(new ClassPathResource(IndicesParcialesInitializer.SCRIPT).exists());
+    }
+}
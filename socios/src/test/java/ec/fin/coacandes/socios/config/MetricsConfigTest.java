@@ -0,0 +1,72 @@
+package ec.fin.coacandes.socios.config;
+
+import ec.fin.coacandes.socios.service.impl.FiltroIdentificaciones;
+import ec.fin.coacandes.socios.service.impl.SocioServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.PointcutAdvisor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.AopUtils;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MetricsConfig - Pruebas Unitarias")
+class MetricsConfigTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Pointcut - Cubre los métodos públicos de los servicios y nada más")
+    void pointcut_SoloServicios() throws Exception {
+        // Arrange
+        PointcutAdvisor advisor = (PointcutAdvisor) new MetricsConfig().metricaServicios(registry);
+
+        // Act & Assert
+        assertTrue(advisor.getPointcut().getMethodMatcher().matches(
+                SocioServiceImpl.class.getMethod("obtenerSocioPorId", UUID.class), SocioServiceImpl.class));
+        assertTrue(AopUtils.canApply(advisor, SocioServiceImpl.class));
+        assertFalse(AopUtils.canApply(advisor, FiltroIdentificaciones.class));
+    }
+
+    @Test
+    @DisplayName("Medición - Registra duración con clase, método y excepción")
+    void medicion_EtiquetasComoTimed() {
+        // Arrange
+        Advisor advisor = new MetricsConfig().metricaServicios(registry);
+        ProxyFactory fabrica = new ProxyFactory(new Operacion());
+        fabrica.addAdvice(advisor.getAdvice());
+        Operacion proxy = (Operacion) fabrica.getProxy();
+
+        // Act
+        proxy.ejecutar(false);
+        assertThrows(IllegalStateException.class, () -> proxy.ejecutar(true));
+
+        // Assert
+        Timer exitosa = registry.get(MetricsConfig.METRICA_SERVICIO)
+                .tag("class", Operacion.class.getName())
+                .tag("method", "ejecutar")
+                .tag("exception", "none")
+                .timer();
+        Timer fallida = registry.get(MetricsConfig.METRICA_SERVICIO)
+                .tag("exception", "IllegalStateException")
+                .timer();
+        assertEquals(1, exitosa.count());
+        assertEquals(1, fallida.count());
+    }
+
+    static class Operacion {
+
+        public String ejecutar(boolean fallar) {
+            if (fallar) {
+                throw new IllegalStateException("fallo");
+            }
+            return "ok";
+        }
+    }
+}
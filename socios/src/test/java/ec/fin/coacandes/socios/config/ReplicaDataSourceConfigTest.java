@@ -0,0 +1,88 @@
+package ec.fin.coacandes.socios.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ReplicaDataSourceConfig - Enrutamiento con dos bases locales")
+class ReplicaDataSourceConfigTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate escritura;
+    private TransactionTemplate lectura;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primario = baseLocal("primario");
+        DataSource replica = baseLocal("replica");
+        DataSource enrutado = ReplicaDataSourceConfig.enrutar(primario, replica);
+
+        jdbcTemplate = new JdbcTemplate(enrutado);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(enrutado);
+        escritura = new TransactionTemplate(transactionManager);
+        lectura = new TransactionTemplate(transactionManager);
+        lectura.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ConsistenciaLectura.limpiar();
+    }
+
+    @Test
+    @DisplayName("Transacción de solo lectura - Va a la réplica")
+    void soloLectura_VaALaReplica() {
+        // Act
+        String origen = lectura.execute(status -> consultarOrigen());
+
+        // Assert
+        assertEquals("replica", origen);
+    }
+
+    @Test
+    @DisplayName("Transacción de escritura - Va al primario")
+    void escritura_VaAlPrimario() {
+        // Act
+        String origen = escritura.execute(status -> consultarOrigen());
+
+        // Assert
+        assertEquals("primario", origen);
+    }
+
+    @Test
+    @DisplayName("Lectura de la propia escritura - La transacción de solo lectura va al primario")
+    void leerDelPrimario_SoloLecturaVaAlPrimario() {
+        // Arrange
+        ConsistenciaLectura.leerDelPrimario();
+
+        // Act
+        String origen = lectura.execute(status -> consultarOrigen());
+
+        // Assert
+        assertEquals("primario", origen);
+    }
+
+    private String consultarOrigen() {
+        return jdbcTemplate.queryForObject("SELECT nombre FROM origen", String.class);
+    }
+
+    // Cada base en memoria se identifica por el valor de su tabla origen
+    private static DataSource baseLocal(String nombre) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + nombre + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS origen (nombre VARCHAR(20))");
+        jdbc.execute("DELETE FROM origen");
+        jdbc.update("INSERT INTO origen (nombre) VALUES (?)", nombre);
+        return dataSource;
+    }
+}
@@ -0,0 +1,96 @@
+package ec.fin.coacandes.socios.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+@SpringJUnitWebConfig(TimeoutExportacionInterceptorTest.Mvc.class)
+@TestPropertySource(properties = "socios.exportacion.timeout=PT10M")
+@DisplayName("TimeoutExportacionInterceptor - Pruebas Unitarias")
+class TimeoutExportacionInterceptorTest {
+
+    private static final long TIMEOUT_GENERAL = 30_000;
+
+    private final MockMvc mockMvc;
+
+    TimeoutExportacionInterceptorTest(WebApplicationContext contexto) {
+        this.mockMvc = MockMvcBuilders.webAppContextSetup(contexto).build();
+    }
+
+    @Test
+    @DisplayName("Respuesta en streaming - Usa el timeout de la exportación")
+    void streaming_TimeoutDeExportacion() throws Exception {
+        // Act
+        MvcResult resultado = mockMvc.perform(get("/exportar")).andReturn();
+
+        // Assert
+        assertTrue(resultado.getRequest().isAsyncStarted());
+        assertEquals(Duration.ofMinutes(10).toMillis(), resultado.getRequest().getAsyncContext().getTimeout());
+    }
+
+    @Test
+    @DisplayName("Otra respuesta asíncrona - Conserva el timeout general")
+    void otraAsincrona_TimeoutGeneral() throws Exception {
+        // Act
+        MvcResult resultado = mockMvc.perform(get("/calcular")).andReturn();
+
+        // Assert
+        assertTrue(resultado.getRequest().isAsyncStarted());
+        assertEquals(TIMEOUT_GENERAL, resultado.getRequest().getAsyncContext().getTimeout());
+    }
+
+    // WebConfig registra el interceptor; el timeout general es el que Spring Boot toma de la configuración
+    @Configuration
+    @EnableWebMvc
+    @Import({WebConfig.class, Asincrono.class})
+    static class Mvc implements WebMvcConfigurer {
+
+        // Conversión de Spring Boot, para leer socios.exportacion.timeout como Duration
+        @Bean
+        static ConversionService conversionService() {
+            return ApplicationConversionService.getSharedInstance();
+        }
+
+        @Override
+        public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+            configurer.setDefaultTimeout(TIMEOUT_GENERAL);
+        }
+    }
+
+    @RestController
+    static class Asincrono {
+
+        @GetMapping("/exportar")
+        ResponseEntity<StreamingResponseBody> exportar() {
+            return ResponseEntity.ok(salida -> salida.write('x'));
+        }
+
+        @GetMapping("/calcular")
+        Callable<String> calcular() {
+            return () -> "listo";
+        }
+    }
+}
@@ -1,7 +1,17 @@
 package ec.fin.coacandes.socios.controller;
 
+import ec.fin.coacandes.socios.dto.CampoSocio;
+import ec.fin.coacandes.socios.dto.EstadoImportacion;
+import ec.fin.coacandes.socios.dto.FormatoExportacion;
+import ec.fin.coacandes.socios.dto.ImportacionSociosDTO;
+import ec.fin.coacandes.socios.dto.PaginaCamposSocioDTO;
+import ec.fin.coacandes.socios.dto.PaginaSociosDTO;
+import ec.fin.coacandes.socios.dto.SocioPatchDTO;
 import ec.fin.coacandes.socios.dto.SocioRequestDTO;
 import ec.fin.coacandes.socios.dto.SocioResponseDTO;
+import ec.fin.coacandes.socios.exception.VersionNoCoincideException;
+import ec.fin.coacandes.socios.service.SocioExportService;
+import ec.fin.coacandes.socios.service.SocioImportacionService;
 import ec.fin.coacandes.socios.service.SocioService;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,16 +21,29 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.zip.GZIPInputStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +53,12 @@ class SocioControllerTest {
     @Mock
     private SocioService socioService;
 
+    @Mock
+    private SocioImportacionService socioImportacionService;
+
+    @Mock
+    private SocioExportService socioExportService;
+
     @InjectMocks
     private SocioController socioController;
 
@@ -42,7 +71,7 @@ class SocioControllerTest {
         socioId = UUID.randomUUID();
 
         socioRequest = new SocioRequestDTO();
-        socioRequest.setIdentificacion("1712345678");
+        socioRequest.setIdentificacion("1712345675");
         socioRequest.setNombres("Juan");
         socioRequest.setApellidos("Pérez");
         socioRequest.setEmail("juan.perez@test.com");
@@ -52,7 +81,7 @@ class SocioControllerTest {
 
         socioResponse = new SocioResponseDTO();
         socioResponse.setId(socioId);
-        socioResponse.setIdentificacion("1712345678");
+        socioResponse.setIdentificacion("1712345675");
         socioResponse.setNombres("Juan");
         socioResponse.setApellidos("Pérez");
         socioResponse.setEmail("juan.perez@test.com");
@@ -60,6 +89,8 @@ class SocioControllerTest {
         socioResponse.setDireccion("Av. Principal 123");
         socioResponse.setTipoIdentificacion("CEDULA");
         socioResponse.setActivo(true);
+        socioResponse.setFechaActualizacion(LocalDateTime.of(2024, 1, 15, 10, 30));
+        socioResponse.setVersion(3L);
     }
 
     @Test
@@ -101,35 +132,97 @@ class SocioControllerTest {
     @DisplayName("Actualizar socio - Exitoso - Debe retornar 200 OK")
     void actualizarSocio_Exitoso() {
         // Arrange
-        when(socioService.actualizarSocio(eq(socioId), any(SocioRequestDTO.class)))
+        when(socioService.actualizarSocio(eq(socioId), any(SocioRequestDTO.class), isNull()))
                 .thenReturn(socioResponse);
 
         // Act
-        ResponseEntity<SocioResponseDTO> response = socioController.actualizarSocio(socioId, socioRequest);
+        ResponseEntity<SocioResponseDTO> response = socioController.actualizarSocio(socioId, socioRequest, null);
 
         // Assert
         assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
         assertEquals(socioResponse.getId(), response.getBody().getId());
-        verify(socioService, times(1)).actualizarSocio(eq(socioId), any(SocioRequestDTO.class));
+        verify(socioService, times(1)).actualizarSocio(eq(socioId), any(SocioRequestDTO.class), isNull());
     }
 
     @Test
     @DisplayName("Actualizar socio - Socio no encontrado")
     void actualizarSocio_NoEncontrado() {
         // Arrange
-        when(socioService.actualizarSocio(eq(socioId), any(SocioRequestDTO.class)))
+        when(socioService.actualizarSocio(eq(socioId), any(SocioRequestDTO.class), isNull()))
                 .thenThrow(new EntityNotFoundException("Socio no encontrado"));
 
         // Act & Assert
         EntityNotFoundException exception = assertThrows(
                 EntityNotFoundException.class,
-                () -> socioController.actualizarSocio(socioId, socioRequest)
+                () -> socioController.actualizarSocio(socioId, socioRequest, null)
         );
 
         assertEquals("Socio no encontrado", exception.getMessage());
-        verify(socioService, times(1)).actualizarSocio(eq(socioId), any(SocioRequestDTO.class));
+        verify(socioService, times(1)).actualizarSocio(eq(socioId), any(SocioRequestDTO.class), isNull());
+    }
+
+    @Test
+    @DisplayName("Parchear socio - Exitoso - Devuelve el ETag nuevo")
+    void parchearSocio_Exitoso() {
+        // Arrange
+        SocioPatchDTO cambios = new SocioPatchDTO();
+        cambios.setTelefono("0991112233");
+        when(socioService.parchearSocio(socioId, cambios, null)).thenReturn(socioResponse);
+
+        // Act
+        ResponseEntity<SocioResponseDTO> response = socioController.parchearSocio(socioId, cambios, null);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(SocioEtag.de(socioResponse), response.getHeaders().getETag());
+        verify(socioService, times(1)).parchearSocio(socioId, cambios, null);
+    }
+
+    @Test
+    @DisplayName("Actualizar socio - If-Match - Pasa la versión del ETag al servicio")
+    void actualizarSocio_IfMatch() {
+        // Arrange
+        when(socioService.actualizarSocio(eq(socioId), any(SocioRequestDTO.class), eq(3L)))
+                .thenReturn(socioResponse);
+
+        // Act
+        ResponseEntity<SocioResponseDTO> response = socioController.actualizarSocio(
+                socioId, socioRequest, SocioEtag.de(socioId, 3L));
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(socioService).actualizarSocio(eq(socioId), any(SocioRequestDTO.class), eq(3L));
+    }
+
+    @Test
+    @DisplayName("Actualizar socio - If-Match de otro socio - 412 sin llamar al servicio")
+    void actualizarSocio_IfMatchOtroSocio() {
+        // Act & Assert
+        assertThrows(VersionNoCoincideException.class,
+                () -> socioController.actualizarSocio(socioId, socioRequest, SocioEtag.de(UUID.randomUUID(), 3L)));
+        verifyNoInteractions(socioService);
+    }
+
+    @Test
+    @DisplayName("Importar socios - Devuelve 202 con la URL del estado")
+    void importarSocios_Aceptada() throws IOException {
+        // Arrange
+        UUID importacionId = UUID.randomUUID();
+        ImportacionSociosDTO importacion = new ImportacionSociosDTO(importacionId, EstadoImportacion.PENDIENTE,
+                120, 0, 0, 0, null, LocalDateTime.now(), null);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setContent("identificacion,nombres\n".getBytes());
+        when(socioImportacionService.iniciar(any())).thenReturn(importacion);
+
+        // Act
+        ResponseEntity<ImportacionSociosDTO> response = socioController.importarSocios(request);
+
+        // Assert
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        assertEquals("/api/socios/importar/" + importacionId, response.getHeaders().getLocation().toString());
+        assertEquals(EstadoImportacion.PENDIENTE, response.getBody().getEstado());
     }
 
     @Test
@@ -139,7 +232,7 @@ class SocioControllerTest {
         when(socioService.obtenerSocioPorId(socioId)).thenReturn(socioResponse);
 
         // Act
-        ResponseEntity<SocioResponseDTO> response = socioController.obtenerSocio(socioId);
+        ResponseEntity<SocioResponseDTO> response = socioController.obtenerSocio(socioId, null);
 
         // Assert
         assertNotNull(response);
@@ -159,67 +252,151 @@ class SocioControllerTest {
         // Act & Assert
         EntityNotFoundException exception = assertThrows(
                 EntityNotFoundException.class,
-                () -> socioController.obtenerSocio(socioId)
+                () -> socioController.obtenerSocio(socioId, null)
         );
 
         assertEquals("Socio no encontrado", exception.getMessage());
         verify(socioService, times(1)).obtenerSocioPorId(socioId);
     }
 
+    @Test
+    @DisplayName("Obtener socio por ID - ETag vigente - Debe retornar 304 sin cargar el socio")
+    void obtenerSocio_EtagVigente() {
+        // Arrange
+        String etag = SocioEtag.de(socioResponse);
+        when(socioService.obtenerVersion(socioId)).thenReturn(socioResponse.getVersion());
+
+        // Act
+        ResponseEntity<SocioResponseDTO> response = socioController.obtenerSocio(socioId, etag);
+
+        // Assert
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+        assertEquals(etag, response.getHeaders().getETag());
+        verify(socioService, never()).obtenerSocioPorId(any());
+    }
+
+    @Test
+    @DisplayName("Obtener socio por ID - ETag desactualizado - Debe retornar 200 con el nuevo ETag")
+    void obtenerSocio_EtagDesactualizado() {
+        // Arrange
+        String etagAnterior = SocioEtag.de(socioId, socioResponse.getVersion() - 1);
+        when(socioService.obtenerVersion(socioId)).thenReturn(socioResponse.getVersion());
+        when(socioService.obtenerSocioPorId(socioId)).thenReturn(socioResponse);
+
+        // Act
+        ResponseEntity<SocioResponseDTO> response = socioController.obtenerSocio(socioId, etagAnterior);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(SocioEtag.de(socioResponse), response.getHeaders().getFirst(HttpHeaders.ETAG));
+    }
+
+    @Test
+    @DisplayName("Obtener todos los socios - ETag vigente - Debe retornar 304 sin cuerpo")
+    void obtenerTodos_EtagVigente() {
+        // Arrange
+        List<SocioResponseDTO> socios = List.of(socioResponse);
+        when(socioService.obtenerTodosLosSocios(null, 50)).thenReturn(new PaginaSociosDTO(socios, "siguiente"));
+        String etag = SocioEtag.dePagina(socios, "siguiente");
+
+        // Act
+        ResponseEntity<List<SocioResponseDTO>> response = socioController.obtenerTodos(null, 50, "W/" + etag);
+
+        // Assert
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+        assertEquals("siguiente", response.getHeaders().getFirst("X-Next-Cursor"));
+    }
+
     @Test
     @DisplayName("Obtener todos los socios - Exitoso")
     void obtenerTodos_Exitoso() {
         // Arrange
         SocioResponseDTO socio2 = new SocioResponseDTO();
         socio2.setId(UUID.randomUUID());
-        socio2.setIdentificacion("1723456789");
+        socio2.setIdentificacion("1723456784");
         socio2.setNombres("María");
 
         List<SocioResponseDTO> socios = Arrays.asList(socioResponse, socio2);
-        when(socioService.obtenerTodosLosSocios()).thenReturn(socios);
+        when(socioService.obtenerTodosLosSocios(null, 50)).thenReturn(new PaginaSociosDTO(socios, "siguiente"));
 
         // Act
-        ResponseEntity<List<SocioResponseDTO>> response = socioController.obtenerTodos();
+        ResponseEntity<List<SocioResponseDTO>> response = socioController.obtenerTodos(null, 50, null);
 
         // Assert
         assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
         assertEquals(2, response.getBody().size());
-        verify(socioService, times(1)).obtenerTodosLosSocios();
+        assertEquals("siguiente", response.getHeaders().getFirst("X-Next-Cursor"));
+        verify(socioService, times(1)).obtenerTodosLosSocios(null, 50);
     }
 
     @Test
     @DisplayName("Obtener todos los socios - Lista vacía")
     void obtenerTodos_ListaVacia() {
         // Arrange
-        when(socioService.obtenerTodosLosSocios()).thenReturn(Arrays.asList());
+        when(socioService.obtenerTodosLosSocios(null, 50)).thenReturn(new PaginaSociosDTO(Arrays.asList(), null));
 
         // Act
-        ResponseEntity<List<SocioResponseDTO>> response = socioController.obtenerTodos();
+        ResponseEntity<List<SocioResponseDTO>> response = socioController.obtenerTodos(null, 50, null);
 
         // Assert
         assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
         assertTrue(response.getBody().isEmpty());
-        verify(socioService, times(1)).obtenerTodosLosSocios();
+        assertFalse(response.getHeaders().containsKey("X-Next-Cursor"));
+        verify(socioService, times(1)).obtenerTodosLosSocios(null, 50);
+    }
+
+    @Test
+    @DisplayName("Obtener socios con fields - Devuelve solo los campos pedidos")
+    void obtenerCamposDeTodos_Exitoso() {
+        // Arrange
+        Map<String, Object> fila = Map.of("identificacion", "1712345675", "nombres", "Juan");
+        when(socioService.obtenerCamposDeSocios(null, 50, EnumSet.of(CampoSocio.IDENTIFICACION, CampoSocio.NOMBRES)))
+                .thenReturn(new PaginaCamposSocioDTO(List.of(fila), null));
+
+        // Act
+        ResponseEntity<List<Map<String, Object>>> response =
+                socioController.obtenerCamposDeTodos("identificacion, nombres", null, 50);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(List.of(fila), response.getBody());
+        assertFalse(response.getHeaders().containsKey("X-Next-Cursor"));
+    }
+
+    @Test
+    @DisplayName("Obtener socios con fields - Campo no soportado")
+    void obtenerCamposDeTodos_CampoNoSoportado() {
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> socioController.obtenerCamposDeTodos("id,clave", null, 50)
+        );
+
+        assertEquals("Campo no soportado: clave", exception.getMessage());
+        verifyNoInteractions(socioService);
     }
 
     @Test
     @DisplayName("Eliminar socio - Exitoso - Debe retornar 204 NO CONTENT")
     void eliminarSocio_Exitoso() {
         // Arrange
-        doNothing().when(socioService).eliminarSocio(socioId);
+        doNothing().when(socioService).eliminarSocio(socioId, null);
 
         // Act
-        ResponseEntity<Void> response = socioController.eliminarSocio(socioId);
+        ResponseEntity<Void> response = socioController.eliminarSocio(socioId, null);
 
         // Assert
         assertNotNull(response);
         assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
         assertNull(response.getBody());
-        verify(socioService, times(1)).eliminarSocio(socioId);
+        verify(socioService, times(1)).eliminarSocio(socioId, null);
     }
 
     @Test
@@ -227,27 +404,27 @@ class SocioControllerTest {
     void eliminarSocio_NoEncontrado() {
         // Arrange
         doThrow(new EntityNotFoundException("Socio no encontrado"))
-                .when(socioService).eliminarSocio(socioId);
+                .when(socioService).eliminarSocio(socioId, null);
 
         // Act & Assert
         EntityNotFoundException exception = assertThrows(
                 EntityNotFoundException.class,
-                () -> socioController.eliminarSocio(socioId)
+                () -> socioController.eliminarSocio(socioId, null)
         );
 
         assertEquals("Socio no encontrado", exception.getMessage());
-        verify(socioService, times(1)).eliminarSocio(socioId);
+        verify(socioService, times(1)).eliminarSocio(socioId, null);
     }
 
     @Test
     @DisplayName("Buscar por identificación - Exitoso")
     void buscarPorIdentificacion_Exitoso() {
         // Arrange
-        String identificacion = "1712345678";
+        String identificacion = "1712345675";
         when(socioService.obtenerSocioPorIdentificacion(identificacion)).thenReturn(socioResponse);
 
         // Act
-        ResponseEntity<SocioResponseDTO> response = socioController.buscarPorIdentificacion(identificacion);
+        ResponseEntity<SocioResponseDTO> response = socioController.buscarPorIdentificacion(identificacion, null);
 
         // Assert
         assertNotNull(response);
@@ -261,17 +438,45 @@ class SocioControllerTest {
     @DisplayName("Buscar por identificación - No encontrado")
     void buscarPorIdentificacion_NoEncontrado() {
         // Arrange
-        String identificacion = "1712345678";
+        String identificacion = "1712345675";
         when(socioService.obtenerSocioPorIdentificacion(identificacion))
                 .thenThrow(new EntityNotFoundException("Socio no encontrado"));
 
         // Act & Assert
         EntityNotFoundException exception = assertThrows(
                 EntityNotFoundException.class,
-                () -> socioController.buscarPorIdentificacion(identificacion)
+                () -> socioController.buscarPorIdentificacion(identificacion, null)
         );
 
         assertEquals("Socio no encontrado", exception.getMessage());
         verify(socioService, times(1)).obtenerSocioPorIdentificacion(identificacion);
     }
+
+    @Test
+    @DisplayName("Exportar con gzip - Si la exportación falla a medias, el gzip se termina y la salida queda abierta")
+    void exportarGzip_FallaAMedias_TerminaElGzip() throws Exception {
+        // Arrange
+        when(socioExportService.exportar(eq(FormatoExportacion.NDJSON), any(OutputStream.class))).thenAnswer(invocacion -> {
+            OutputStream destino = invocacion.getArgument(1);
+            destino.write("{\"identificacion\":\"1712345675\"}\n".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("Conexión perdida");
+        });
+        boolean[] cerrada = {false};
+        ByteArrayOutputStream salida = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                cerrada[0] = true;
+            }
+        };
+        StreamingResponseBody cuerpo = socioController.exportar("ndjson", true).getBody();
+
+        // Act
+        assertThrows(IOException.class, () -> cuerpo.writeTo(salida));
+
+        // Assert
+        assertFalse(cerrada[0]);
+        try (GZIPInputStream lectura = new GZIPInputStream(new ByteArrayInputStream(salida.toByteArray()))) {
+            assertEquals("{\"identificacion\":\"1712345675\"}\n", new String(lectura.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
 }
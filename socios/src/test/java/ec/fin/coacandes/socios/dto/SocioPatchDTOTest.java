@@ -0,0 +1,93 @@
+package ec.fin.coacandes.socios.dto;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SocioPatchDTO - Pruebas de Validación")
+class SocioPatchDTOTest {
+
+    private Validator validator;
+
+    @BeforeEach
+    void setUp() {
+        validator = Validation.buildDefaultValidatorFactory().getValidator();
+    }
+
+    @Test
+    @DisplayName("Patch vacío - Sin violaciones")
+    void patchVacio_SinViolaciones() {
+        // Act
+        Set<ConstraintViolation<SocioPatchDTO>> violations = validator.validate(new SocioPatchDTO());
+
+        // Assert
+        assertTrue(violations.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Teléfono con formato inválido - Debe fallar")
+    void telefonoInvalido_DebeFallar() {
+        // Arrange
+        SocioPatchDTO cambios = new SocioPatchDTO();
+        cambios.setTelefono("12ab");
+
+        // Act
+        Set<ConstraintViolation<SocioPatchDTO>> violations = validator.validate(cambios);
+
+        // Assert
+        assertEquals(1, violations.size());
+        assertEquals("Teléfono inválido", violations.iterator().next().getMessage());
+    }
+
+    @Test
+    @DisplayName("Nombres en blanco - Debe fallar")
+    void nombresEnBlanco_DebeFallar() {
+        // Arrange
+        SocioPatchDTO cambios = new SocioPatchDTO();
+        cambios.setNombres("   ");
+
+        // Act
+        Set<ConstraintViolation<SocioPatchDTO>> violations = validator.validate(cambios);
+
+        // Assert
+        assertFalse(violations.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Tipo de identificación desconocido - Debe fallar")
+    void tipoIdentificacionDesconocido_DebeFallar() {
+        // Arrange
+        SocioPatchDTO cambios = new SocioPatchDTO();
+        cambios.setTipoIdentificacion("PASAPORTE");
+
+        // Act
+        Set<ConstraintViolation<SocioPatchDTO>> violations = validator.validate(cambios);
+
+        // Assert
+        assertFalse(violations.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Identificación sin tipo - Acepta cédula o RUC válidos")
+    void identificacionSinTipo_AceptaCedulaORuc() {
+        // Arrange
+        SocioPatchDTO cedula = new SocioPatchDTO();
+        cedula.setIdentificacion("1712345675");
+        SocioPatchDTO ruc = new SocioPatchDTO();
+        ruc.setIdentificacion("1790123456001");
+        SocioPatchDTO invalida = new SocioPatchDTO();
+        invalida.setIdentificacion("1712345678");
+
+        // Act & Assert
+        assertTrue(validator.validate(cedula).isEmpty());
+        assertTrue(validator.validate(ruc).isEmpty());
+        assertEquals(1, validator.validate(invalida).size());
+    }
+}
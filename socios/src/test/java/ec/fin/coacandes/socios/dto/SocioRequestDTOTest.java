@@ -24,7 +24,7 @@ class SocioRequestDTOTest {
         validator = factory.getValidator();
 
         socioRequest = new SocioRequestDTO();
-        socioRequest.setIdentificacion("1712345678");
+        socioRequest.setIdentificacion("1712345675");
         socioRequest.setNombres("Juan");
         socioRequest.setApellidos("Pérez");
         socioRequest.setEmail("juan.perez@test.com");
@@ -99,6 +99,52 @@ class SocioRequestDTOTest {
         assertFalse(violations.isEmpty());
     }
 
+    @Test
+    @DisplayName("Cédula con dígito verificador incorrecto - Debe fallar en el campo identificacion")
+    void cedulaDigitoVerificadorIncorrecto_DebeFallar() {
+        // Arrange
+        socioRequest.setIdentificacion("1712345678");
+
+        // Act
+        Set<ConstraintViolation<SocioRequestDTO>> violations = validator.validate(socioRequest);
+
+        // Assert
+        assertEquals(1, violations.size());
+        ConstraintViolation<SocioRequestDTO> violacion = violations.iterator().next();
+        assertEquals("identificacion", violacion.getPropertyPath().toString());
+        assertEquals("Identificación inválida", violacion.getMessage());
+    }
+
+    @Test
+    @DisplayName("RUC con tipo CEDULA - Debe fallar")
+    void rucConTipoCedula_DebeFallar() {
+        // Arrange
+        socioRequest.setIdentificacion("1790123456001");
+
+        // Act
+        Set<ConstraintViolation<SocioRequestDTO>> violations = validator.validate(socioRequest);
+
+        // Assert
+        assertEquals(1, violations.size());
+        assertEquals("Identificación inválida", violations.iterator().next().getMessage());
+    }
+
+    @Test
+    @DisplayName("Tipo identificación desconocido - Debe fallar en el campo tipoIdentificacion")
+    void tipoIdentificacionDesconocido_DebeFallar() {
+        // Arrange
+        socioRequest.setTipoIdentificacion("PASAPORTE");
+
+        // Act
+        Set<ConstraintViolation<SocioRequestDTO>> violations = validator.validate(socioRequest);
+
+        // Assert
+        assertEquals(1, violations.size());
+        ConstraintViolation<SocioRequestDTO> violacion = violations.iterator().next();
+        assertEquals("tipoIdentificacion", violacion.getPropertyPath().toString());
+        assertEquals("Tipo de identificación inválido", violacion.getMessage());
+    }
+
     @Test
     @DisplayName("Nombres nulos - Debe fallar")
     void nombresNulos_DebeFallar() {
@@ -247,7 +293,7 @@ class SocioRequestDTOTest {
         SocioRequestDTO dto = new SocioRequestDTO();
 
         // Act
-        dto.setIdentificacion("1712345678");
+        dto.setIdentificacion("1712345675");
         dto.setNombres("Test");
         dto.setApellidos("Usuario");
         dto.setEmail("test@test.com");
@@ -256,7 +302,7 @@ class SocioRequestDTOTest {
         dto.setTipoIdentificacion("CEDULA");
 
         // Assert
-        assertEquals("1712345678", dto.getIdentificacion());
+        assertEquals("1712345675", dto.getIdentificacion());
         assertEquals("Test", dto.getNombres());
         assertEquals("Usuario", dto.getApellidos());
         assertEquals("test@test.com", dto.getEmail());
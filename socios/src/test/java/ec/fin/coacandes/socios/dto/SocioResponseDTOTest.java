@@ -26,7 +26,7 @@ class SocioResponseDTOTest {
     void crearDTOConValores_Exitoso() {
         // Arrange & Act
         socioResponse.setId(socioId);
-        socioResponse.setIdentificacion("1712345678");
+        socioResponse.setIdentificacion("1712345675");
         socioResponse.setNombres("Juan");
         socioResponse.setApellidos("Pérez");
         socioResponse.setEmail("juan.perez@test.com");
@@ -40,7 +40,7 @@ class SocioResponseDTOTest {
         // Assert
         assertNotNull(socioResponse);
         assertEquals(socioId, socioResponse.getId());
-        assertEquals("1712345678", socioResponse.getIdentificacion());
+        assertEquals("1712345675", socioResponse.getIdentificacion());
         assertEquals("Juan", socioResponse.getNombres());
         assertEquals("Pérez", socioResponse.getApellidos());
         assertEquals("juan.perez@test.com", socioResponse.getEmail());
@@ -78,7 +78,7 @@ class SocioResponseDTOTest {
 
         // Act
         socioResponse.setId(id);
-        socioResponse.setIdentificacion("1723456789");
+        socioResponse.setIdentificacion("1723456784");
         socioResponse.setNombres("María");
         socioResponse.setApellidos("López");
         socioResponse.setEmail("maria@test.com");
@@ -91,7 +91,7 @@ class SocioResponseDTOTest {
 
         // Assert
         assertEquals(id, socioResponse.getId());
-        assertEquals("1723456789", socioResponse.getIdentificacion());
+        assertEquals("1723456784", socioResponse.getIdentificacion());
         assertEquals("María", socioResponse.getNombres());
         assertEquals("López", socioResponse.getApellidos());
         assertEquals("maria@test.com", socioResponse.getEmail());
@@ -108,7 +108,7 @@ class SocioResponseDTOTest {
     void toString_GeneraRepresentacion() {
         // Arrange
         socioResponse.setId(socioId);
-        socioResponse.setIdentificacion("1712345678");
+        socioResponse.setIdentificacion("1712345675");
         socioResponse.setNombres("Juan");
 
         // Act
@@ -116,7 +116,7 @@ class SocioResponseDTOTest {
 
         // Assert
         assertNotNull(resultado);
-        assertTrue(resultado.contains("1712345678") || resultado.contains("Juan"));
+        assertTrue(resultado.contains("1712345675") || resultado.contains("Juan"));
     }
 
     @Test
@@ -125,11 +125,11 @@ class SocioResponseDTOTest {
         // Arrange
         SocioResponseDTO dto1 = new SocioResponseDTO();
         dto1.setId(socioId);
-        dto1.setIdentificacion("1712345678");
+        dto1.setIdentificacion("1712345675");
 
         SocioResponseDTO dto2 = new SocioResponseDTO();
         dto2.setId(socioId);
-        dto2.setIdentificacion("1712345678");
+        dto2.setIdentificacion("1712345675");
 
         // Act & Assert
         assertEquals(dto1, dto2);
@@ -140,7 +140,7 @@ class SocioResponseDTOTest {
     void hashCode_GeneraCodigoHash() {
         // Arrange
         socioResponse.setId(socioId);
-        socioResponse.setIdentificacion("1712345678");
+        socioResponse.setIdentificacion("1712345675");
 
         // Act
         int hashCode1 = socioResponse.hashCode();
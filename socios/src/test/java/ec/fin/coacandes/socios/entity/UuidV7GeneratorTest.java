@@ -0,0 +1,54 @@
+package ec.fin.coacandes.socios.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("UuidV7Generator - Pruebas Unitarias")
+class UuidV7GeneratorTest {
+
+    @Test
+    @DisplayName("Siguiente - Genera UUID versión 7 con variante RFC")
+    void siguiente_VersionYVariante() {
+        // Act
+        UUID id = UuidV7Generator.siguiente();
+
+        // Assert
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+    }
+
+    @Test
+    @DisplayName("Siguiente - Codifica el instante de generación en los primeros 48 bits")
+    void siguiente_MarcaDeTiempo() {
+        // Arrange
+        long antes = System.currentTimeMillis();
+
+        // Act
+        UUID id = UuidV7Generator.siguiente();
+
+        // Assert
+        long milisegundos = id.getMostSignificantBits() >>> 16;
+        assertTrue(milisegundos >= antes);
+        assertTrue(milisegundos <= System.currentTimeMillis() + 1);
+    }
+
+    @Test
+    @DisplayName("Siguiente - Es estrictamente creciente aun dentro del mismo milisegundo")
+    void siguiente_Creciente() {
+        // Arrange
+        UUID anterior = UuidV7Generator.siguiente();
+
+        for (int i = 0; i < 10_000; i++) {
+            // Act
+            UUID actual = UuidV7Generator.siguiente();
+
+            // Assert: mismo orden que aplica PostgreSQL (bytes sin signo)
+            assertTrue(Long.compareUnsigned(actual.getMostSignificantBits(), anterior.getMostSignificantBits()) > 0);
+            anterior = actual;
+        }
+    }
+}
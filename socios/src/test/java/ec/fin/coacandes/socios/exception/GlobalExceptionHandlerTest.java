@@ -0,0 +1,73 @@
+package ec.fin.coacandes.socios.exception;
+
+import ec.fin.coacandes.socios.entity.Socio;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("GlobalExceptionHandler - Pruebas Unitarias")
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Test
+    @DisplayName("Violación de identificación única - 400 con mensaje de duplicado")
+    void violacionIdentificacion_BadRequest() {
+        // Arrange
+        DataIntegrityViolationException ex = violacion("PUBLIC.UK_SOCIOS_IDENTIFICACION_INDEX_1");
+
+        // Act
+        ResponseEntity<ErrorResponse> response = handler.handleDataIntegrityViolation(ex);
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Ya existe un socio con esta identificación", response.getBody().getMessage());
+    }
+
+    @Test
+    @DisplayName("Violación de email único - 400 con mensaje de email")
+    void violacionEmail_BadRequest() {
+        // Act
+        ResponseEntity<ErrorResponse> response = handler.handleDataIntegrityViolation(violacion(Socio.UK_EMAIL));
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Ya existe un socio con este email", response.getBody().getMessage());
+    }
+
+    @Test
+    @DisplayName("Otra violación de integridad - 400 con mensaje genérico")
+    void otraViolacion_BadRequest() {
+        // Act
+        ResponseEntity<ErrorResponse> response = handler.handleDataIntegrityViolation(
+                new DataIntegrityViolationException("valor nulo"));
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Los datos enviados violan una restricción de integridad", response.getBody().getMessage());
+    }
+
+    @Test
+    @DisplayName("Versión no coincide o conflicto optimista - 412")
+    void versionNoCoincide_PreconditionFailed() {
+        // Act
+        ResponseEntity<ErrorResponse> response = handler.handleVersionNoCoincide();
+
+        // Assert
+        assertEquals(HttpStatus.PRECONDITION_FAILED, response.getStatusCode());
+        assertEquals(VersionNoCoincideException.MENSAJE, response.getBody().getMessage());
+    }
+
+    private DataIntegrityViolationException violacion(String restriccion) {
+        ConstraintViolationException causa = new ConstraintViolationException(
+                "duplicado", new SQLException("duplicado"), restriccion);
+        return new DataIntegrityViolationException("duplicado", causa);
+    }
+}
@@ -0,0 +1,121 @@
+package ec.fin.coacandes.socios.integration;
+
+import ec.fin.coacandes.socios.config.CacheConfig;
+import ec.fin.coacandes.socios.dto.SocioRequestDTO;
+import ec.fin.coacandes.socios.dto.SocioResponseDTO;
+import ec.fin.coacandes.socios.repository.SocioRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Con la caché de producción: una escritura no debe dejar respuestas obsoletas en sociosPorId ni sociosPorIdentificacion
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "spring.cache.type=caffeine")
+@ActiveProfiles("test")
+@DisplayName("API Socios con caché - Pruebas de Integración")
+class SocioCacheIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private SocioRepository socioRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private String baseUrl;
+    private SocioRequestDTO socioRequest;
+
+    @BeforeEach
+    void setUp() {
+        baseUrl = "http://localhost:" + port + "/api/socios";
+        socioRepository.deleteAll();
+        // Los datos se borran sin pasar por el servicio: la caché se vacía a mano
+        cacheManager.getCacheNames().forEach(nombre -> cacheManager.getCache(nombre).clear());
+
+        socioRequest = new SocioRequestDTO();
+        socioRequest.setIdentificacion("1712345675");
+        socioRequest.setNombres("Juan");
+        socioRequest.setApellidos("Pérez");
+        socioRequest.setEmail("juan.perez@test.com");
+        socioRequest.setTelefono("0987654321");
+        socioRequest.setDireccion("Av. Principal 123");
+        socioRequest.setTipoIdentificacion("CEDULA");
+    }
+
+    @Test
+    @DisplayName("GET - PUT - GET: se ve la actualización por id y por identificación")
+    void actualizar_NoSirveDatosObsoletos() {
+        // Arrange
+        UUID id = restTemplate.postForEntity(baseUrl, socioRequest, SocioResponseDTO.class).getBody().getId();
+        ResponseEntity<SocioResponseDTO> inicial = restTemplate.getForEntity(baseUrl + "/" + id, SocioResponseDTO.class);
+        restTemplate.getForEntity(baseUrl + "/identificacion/1712345675", SocioResponseDTO.class);
+        assertNotNull(cacheManager.getCache(CacheConfig.SOCIOS_POR_ID).get(id));
+        assertNotNull(cacheManager.getCache(CacheConfig.SOCIOS_POR_IDENTIFICACION).get("1712345675"));
+
+        // Act
+        socioRequest.setNombres("Juan Carlos");
+        socioRequest.setIdentificacion("1723456784");
+        ResponseEntity<SocioResponseDTO> actualizado = restTemplate.exchange(
+                baseUrl + "/" + id, HttpMethod.PUT, new HttpEntity<>(socioRequest), SocioResponseDTO.class);
+        ResponseEntity<SocioResponseDTO> porId = restTemplate.getForEntity(baseUrl + "/" + id, SocioResponseDTO.class);
+        HttpHeaders condicional = new HttpHeaders();
+        condicional.setIfNoneMatch(inicial.getHeaders().getETag());
+        ResponseEntity<SocioResponseDTO> conEtagAnterior = restTemplate.exchange(
+                baseUrl + "/" + id, HttpMethod.GET, new HttpEntity<>(condicional), SocioResponseDTO.class);
+        ResponseEntity<String> identificacionAnterior = restTemplate.getForEntity(
+                baseUrl + "/identificacion/1712345675", String.class);
+        ResponseEntity<SocioResponseDTO> identificacionNueva = restTemplate.getForEntity(
+                baseUrl + "/identificacion/1723456784", SocioResponseDTO.class);
+
+        // Assert
+        assertEquals(HttpStatus.OK, actualizado.getStatusCode());
+        assertEquals("Juan Carlos", porId.getBody().getNombres());
+        assertEquals(1L, porId.getBody().getVersion());
+        assertEquals(HttpStatus.OK, conEtagAnterior.getStatusCode());
+        assertEquals(porId.getHeaders().getETag(), conEtagAnterior.getHeaders().getETag());
+        assertEquals(HttpStatus.NOT_FOUND, identificacionAnterior.getStatusCode());
+        assertEquals(HttpStatus.OK, identificacionNueva.getStatusCode());
+        assertEquals(id, identificacionNueva.getBody().getId());
+    }
+
+    @Test
+    @DisplayName("GET - DELETE - GET: el socio eliminado ya no se sirve desde la caché")
+    void eliminar_NoSirveDatosObsoletos() {
+        // Arrange
+        UUID id = restTemplate.postForEntity(baseUrl, socioRequest, SocioResponseDTO.class).getBody().getId();
+        restTemplate.getForEntity(baseUrl + "/" + id, SocioResponseDTO.class);
+        restTemplate.getForEntity(baseUrl + "/identificacion/1712345675", SocioResponseDTO.class);
+        assertNotNull(cacheManager.getCache(CacheConfig.SOCIOS_POR_ID).get(id));
+        assertNotNull(cacheManager.getCache(CacheConfig.SOCIOS_POR_IDENTIFICACION).get("1712345675"));
+
+        // Act
+        ResponseEntity<Void> eliminado = restTemplate.exchange(baseUrl + "/" + id, HttpMethod.DELETE, null, Void.class);
+        ResponseEntity<String> porId = restTemplate.getForEntity(baseUrl + "/" + id, String.class);
+        ResponseEntity<String> porIdentificacion = restTemplate.getForEntity(
+                baseUrl + "/identificacion/1712345675", String.class);
+
+        // Assert
+        assertEquals(HttpStatus.NO_CONTENT, eliminado.getStatusCode());
+        assertEquals(HttpStatus.NOT_FOUND, porId.getStatusCode());
+        assertEquals(HttpStatus.NOT_FOUND, porIdentificacion.getStatusCode());
+    }
+}
@@ -12,11 +12,14 @@ import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.UUID;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
@@ -42,7 +45,7 @@ class SocioIntegrationTest {
         socioRepository.deleteAll();
 
         socioRequest = new SocioRequestDTO();
-        socioRequest.setIdentificacion("1712345678");
+        socioRequest.setIdentificacion("1712345675");
         socioRequest.setNombres("Juan");
         socioRequest.setApellidos("Pérez");
         socioRequest.setEmail("juan.perez@test.com");
@@ -114,6 +117,37 @@ class SocioIntegrationTest {
         assertEquals("Juan Carlos", updateResponse.getBody().getNombres());
     }
 
+    @Test
+    @DisplayName("Actualizar socio - If-Match desactualizado - 412")
+    void actualizarSocio_IfMatchDesactualizado() {
+        // Arrange
+        ResponseEntity<SocioResponseDTO> createResponse = restTemplate.postForEntity(
+                baseUrl,
+                socioRequest,
+                SocioResponseDTO.class
+        );
+        String socioId = createResponse.getBody().getId().toString();
+        String etagInicial = restTemplate.getForEntity(baseUrl + "/" + socioId, String.class)
+                .getHeaders().getETag();
+        HttpHeaders cabeceras = new HttpHeaders();
+        cabeceras.setIfMatch(etagInicial);
+
+        // Act
+        socioRequest.setNombres("Juan Carlos");
+        ResponseEntity<SocioResponseDTO> primera = restTemplate.exchange(
+                baseUrl + "/" + socioId, HttpMethod.PUT, new HttpEntity<>(socioRequest, cabeceras), SocioResponseDTO.class);
+        socioRequest.setNombres("Juan José");
+        ResponseEntity<String> segunda = restTemplate.exchange(
+                baseUrl + "/" + socioId, HttpMethod.PUT, new HttpEntity<>(socioRequest, cabeceras), String.class);
+
+        // Assert
+        assertEquals(HttpStatus.OK, primera.getStatusCode());
+        assertEquals(1L, primera.getBody().getVersion());
+        assertEquals(HttpStatus.PRECONDITION_FAILED, segunda.getStatusCode());
+        assertEquals("Juan Carlos",
+                socioRepository.findById(UUID.fromString(socioId)).orElseThrow().getNombres());
+    }
+
     @Test
     @DisplayName("Eliminar socio - Integración completa")
     void eliminarSocio_IntegracionCompleta() {
@@ -136,7 +170,10 @@ class SocioIntegrationTest {
 
         // Assert
         assertEquals(HttpStatus.NO_CONTENT, deleteResponse.getStatusCode());
-        assertEquals(0, socioRepository.count());
+        assertEquals(1, socioRepository.count());
+        assertFalse(socioRepository.findById(UUID.fromString(socioId)).orElseThrow().getActivo());
+        assertEquals(HttpStatus.NOT_FOUND,
+                restTemplate.getForEntity(baseUrl + "/" + socioId, String.class).getStatusCode());
     }
 
     @Test
@@ -0,0 +1,122 @@
+package ec.fin.coacandes.socios.mapper;
+
+import ec.fin.coacandes.socios.dto.SocioPatchDTO;
+import ec.fin.coacandes.socios.dto.SocioRequestDTO;
+import ec.fin.coacandes.socios.dto.SocioResponseDTO;
+import ec.fin.coacandes.socios.entity.Socio;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SocioMapper - Pruebas Unitarias")
+class SocioMapperTest {
+
+    private final SocioMapper socioMapper = Mappers.getMapper(SocioMapper.class);
+
+    private SocioRequestDTO socioRequest;
+
+    @BeforeEach
+    void setUp() {
+        socioRequest = new SocioRequestDTO();
+        socioRequest.setIdentificacion("1712345675");
+        socioRequest.setNombres("Juan");
+        socioRequest.setApellidos("Pérez");
+        socioRequest.setEmail("juan.perez@test.com");
+        socioRequest.setTelefono("0987654321");
+        socioRequest.setDireccion("Av. Principal 123");
+        socioRequest.setTipoIdentificacion("CEDULA");
+    }
+
+    @Test
+    @DisplayName("Request a entidad - Copia datos y conserva valores por defecto")
+    void requestAEntidad_CopiaDatos() {
+        // Act
+        Socio socio = socioMapper.aEntidad(socioRequest);
+
+        // Assert
+        assertNull(socio.getId());
+        assertEquals("1712345675", socio.getIdentificacion());
+        assertEquals("Juan", socio.getNombres());
+        assertEquals("Pérez", socio.getApellidos());
+        assertEquals("juan.perez@test.com", socio.getEmail());
+        assertEquals("0987654321", socio.getTelefono());
+        assertEquals("Av. Principal 123", socio.getDireccion());
+        assertEquals("CEDULA", socio.getTipoIdentificacion());
+        assertTrue(socio.getActivo());
+    }
+
+    @Test
+    @DisplayName("Entidad a respuesta - Copia todos los campos")
+    void entidadARespuesta_CopiaTodosLosCampos() {
+        // Arrange
+        Socio socio = socioMapper.aEntidad(socioRequest);
+        socio.setId(UUID.randomUUID());
+        socio.setActivo(false);
+        socio.setFechaCreacion(LocalDateTime.now());
+        socio.setFechaActualizacion(LocalDateTime.now());
+
+        // Act
+        SocioResponseDTO respuesta = socioMapper.aRespuesta(socio);
+
+        // Assert
+        assertEquals(socio.getId(), respuesta.getId());
+        assertEquals(socio.getIdentificacion(), respuesta.getIdentificacion());
+        assertEquals(socio.getEmail(), respuesta.getEmail());
+        assertFalse(respuesta.getActivo());
+        assertEquals(socio.getFechaCreacion(), respuesta.getFechaCreacion());
+        assertEquals(socio.getFechaActualizacion(), respuesta.getFechaActualizacion());
+    }
+
+    @Test
+    @DisplayName("Actualizar entidad - Sobrescribe datos, incluidos nulos, sin tocar campos del sistema")
+    void actualizarEntidad_SobrescribeDatos() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        LocalDateTime creacion = LocalDateTime.now();
+        Socio socio = socioMapper.aEntidad(socioRequest);
+        socio.setId(id);
+        socio.setActivo(false);
+        socio.setFechaCreacion(creacion);
+
+        socioRequest.setNombres("Juan Carlos");
+        socioRequest.setEmail(null);
+
+        // Act
+        socioMapper.actualizarEntidad(socioRequest, socio);
+
+        // Assert
+        assertEquals(id, socio.getId());
+        assertFalse(socio.getActivo());
+        assertEquals(creacion, socio.getFechaCreacion());
+        assertEquals("Juan Carlos", socio.getNombres());
+        assertNull(socio.getEmail());
+    }
+
+    @Test
+    @DisplayName("Aplicar cambios - Ignora los nulos y solo asigna lo enviado")
+    void aplicarCambios_IgnoraNulos() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        Socio socio = socioMapper.aEntidad(socioRequest);
+        socio.setId(id);
+        SocioPatchDTO cambios = new SocioPatchDTO();
+        cambios.setTelefono("0991112233");
+
+        // Act
+        socioMapper.aplicarCambios(cambios, socio);
+
+        // Assert
+        assertEquals(id, socio.getId());
+        assertEquals("0991112233", socio.getTelefono());
+        assertEquals("Juan", socio.getNombres());
+        assertEquals("juan.perez@test.com", socio.getEmail());
+        assertEquals("1712345675", socio.getIdentificacion());
+        assertTrue(socio.getActivo());
+    }
+}
@@ -1,15 +1,21 @@
 package ec.fin.coacandes.socios.repository;
 
+import ec.fin.coacandes.socios.dto.CampoSocio;
 import ec.fin.coacandes.socios.entity.Socio;
+import jakarta.persistence.Tuple;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 
+import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -28,7 +34,7 @@ class SocioRepositoryTest {
     @BeforeEach
     void setUp() {
         socio = new Socio();
-        socio.setIdentificacion("1712345678");
+        socio.setIdentificacion("1712345675");
         socio.setNombres("Juan");
         socio.setApellidos("Pérez");
         socio.setEmail("juan.perez@test.com");
@@ -85,11 +91,11 @@ class SocioRepositoryTest {
         entityManager.persistAndFlush(socio);
 
         // Act
-        Optional<Socio> encontrado = socioRepository.findByIdentificacion("1712345678");
+        Optional<Socio> encontrado = socioRepository.findByIdentificacion("1712345675");
 
         // Assert
         assertTrue(encontrado.isPresent());
-        assertEquals("1712345678", encontrado.get().getIdentificacion());
+        assertEquals("1712345675", encontrado.get().getIdentificacion());
     }
 
     @Test
@@ -109,7 +115,7 @@ class SocioRepositoryTest {
         entityManager.persistAndFlush(socio);
 
         // Act
-        boolean existe = socioRepository.existsByIdentificacion("1712345678");
+        boolean existe = socioRepository.existsByIdentificacion("1712345675");
 
         // Assert
         assertTrue(existe);
@@ -130,7 +136,7 @@ class SocioRepositoryTest {
     void buscarTodos_ConResultados() {
         // Arrange
         Socio socio2 = new Socio();
-        socio2.setIdentificacion("1723456789");
+        socio2.setIdentificacion("1723456784");
         socio2.setNombres("María");
         socio2.setApellidos("López");
         socio2.setTipoIdentificacion("CEDULA");
@@ -147,6 +153,83 @@ class SocioRepositoryTest {
         assertEquals(2, socios.size());
     }
 
+    @Test
+    @DisplayName("Paginación keyset - Recorre todas las páginas sin repetir")
+    void paginacionKeyset_RecorreTodasLasPaginas() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            Socio otro = new Socio();
+            otro.setIdentificacion("170000000" + i);
+            otro.setNombres("Socio " + i);
+            otro.setApellidos("Prueba");
+            otro.setTipoIdentificacion("CEDULA");
+            entityManager.persist(otro);
+        }
+        entityManager.flush();
+
+        // Act
+        List<Socio> primera = socioRepository.findPrimeraPagina(PageRequest.ofSize(3));
+        Socio ultimo = primera.get(primera.size() - 1);
+        List<Socio> segunda = socioRepository.findPaginaDespuesDe(
+                ultimo.getFechaCreacion(), ultimo.getId(), PageRequest.ofSize(3));
+
+        // Assert
+        assertEquals(3, primera.size());
+        assertEquals(2, segunda.size());
+        assertTrue(segunda.stream().noneMatch(primera::contains));
+    }
+
+    @Test
+    @DisplayName("Proyección de campos - Lee solo las columnas pedidas y la clave del cursor")
+    void proyeccionCampos_SoloColumnasPedidas() {
+        // Arrange
+        entityManager.persistAndFlush(socio);
+
+        // Act
+        List<Tuple> filas = socioRepository.findCamposPagina(
+                EnumSet.of(CampoSocio.IDENTIFICACION, CampoSocio.NOMBRES), null, null, 10);
+
+        // Assert
+        assertEquals(1, filas.size());
+        Tuple fila = filas.get(0);
+        assertEquals("1712345675", fila.get("identificacion"));
+        assertEquals("Juan", fila.get("nombres"));
+        assertNotNull(fila.get("id", UUID.class));
+        assertNotNull(fila.get("fechaCreacion", LocalDateTime.class));
+        assertEquals(4, fila.getElements().size());
+    }
+
+    @Test
+    @DisplayName("Proyección de campos - Incluye la versión para armar If-Match")
+    void proyeccionCampos_Version() {
+        // Arrange
+        entityManager.persistAndFlush(socio);
+
+        // Act
+        List<Tuple> filas = socioRepository.findCamposPagina(
+                CampoSocio.desdeLista("id,version"), null, null, 10);
+
+        // Assert
+        assertEquals(1, filas.size());
+        assertEquals(0L, filas.get(0).get("version"));
+    }
+
+    @Test
+    @DisplayName("Proyección por identificación - Socio existente")
+    void proyeccionPorIdentificacion_Existente() {
+        // Arrange
+        entityManager.persistAndFlush(socio);
+
+        // Act
+        Optional<Tuple> fila = socioRepository.findCamposPorIdentificacion(
+                EnumSet.of(CampoSocio.APELLIDOS), "1712345675");
+
+        // Assert
+        assertTrue(fila.isPresent());
+        assertEquals("Pérez", fila.get().get("apellidos"));
+        assertEquals(1, fila.get().getElements().size());
+    }
+
     @Test
     @DisplayName("Eliminar socio - Exitoso")
     void eliminarSocio_Exitoso() {
@@ -161,6 +244,25 @@ class SocioRepositoryTest {
         assertFalse(encontrado.isPresent());
     }
 
+    @Test
+    @DisplayName("Desactivar socio - Deja de aparecer en las lecturas de activos")
+    void desactivarSocio_OcultaDeLecturas() {
+        // Arrange
+        Socio guardado = entityManager.persistAndFlush(socio);
+        entityManager.clear();
+
+        // Act
+        int filas = socioRepository.desactivar(guardado.getId(), LocalDateTime.now());
+        int repetido = socioRepository.desactivar(guardado.getId(), LocalDateTime.now());
+
+        // Assert
+        assertEquals(1, filas);
+        assertEquals(0, repetido);
+        assertTrue(socioRepository.findById(guardado.getId()).isPresent());
+        assertFalse(socioRepository.findByIdAndActivoTrue(guardado.getId()).isPresent());
+        assertTrue(socioRepository.findPrimeraPagina(PageRequest.ofSize(10)).isEmpty());
+    }
+
     @Test
     @DisplayName("Actualizar socio - Exitoso")
     void actualizarSocio_Exitoso() {
@@ -185,7 +287,7 @@ class SocioRepositoryTest {
         entityManager.persistAndFlush(socio);
 
         Socio socio2 = new Socio();
-        socio2.setIdentificacion("1723456789");
+        socio2.setIdentificacion("1723456784");
         socio2.setNombres("María");
         socio2.setApellidos("López");
         socio2.setEmail("juan.perez@test.com"); // Email duplicado
@@ -205,7 +307,7 @@ class SocioRepositoryTest {
         entityManager.persistAndFlush(socio);
 
         Socio socio2 = new Socio();
-        socio2.setIdentificacion("1712345678"); // Identificación duplicada
+        socio2.setIdentificacion("1712345675"); // Identificación duplicada
         socio2.setNombres("María");
         socio2.setApellidos("López");
         socio2.setEmail("maria.lopez@test.com");
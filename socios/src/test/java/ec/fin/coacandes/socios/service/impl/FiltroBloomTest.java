@@ -0,0 +1,56 @@
+package ec.fin.coacandes.socios.service.impl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FiltroBloom - Pruebas Unitarias")
+class FiltroBloomTest {
+
+    @Test
+    @DisplayName("Sin falsos negativos y con falsos positivos cercanos a lo configurado")
+    void sinFalsosNegativos_FalsosPositivosAcotados() {
+        // Arrange
+        FiltroBloom filtro = new FiltroBloom(10_000, 0.01);
+
+        // Act
+        for (int i = 0; i < 10_000; i++) {
+            filtro.agregar(Long.toString(1_700_000_000L + i));
+        }
+        int falsosPositivos = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filtro.podriaContener(Long.toString(1_800_000_000L + i))) {
+                falsosPositivos++;
+            }
+        }
+
+        // Assert
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filtro.podriaContener(Long.toString(1_700_000_000L + i)));
+        }
+        assertTrue(falsosPositivos < 2_000, "falsos positivos: " + falsosPositivos);
+        assertEquals(0.01, filtro.probabilidadFalsoPositivo(), 0.005);
+        // ~9,6 bits por elemento para 1 %
+        assertTrue(filtro.bytes() >= 11_000 && filtro.bytes() <= 13_000, "bytes: " + filtro.bytes());
+        assertEquals(7, filtro.funciones());
+    }
+
+    @Test
+    @DisplayName("Vacío - No contiene nada")
+    void vacio_NoContieneNada() {
+        // Arrange
+        FiltroBloom filtro = new FiltroBloom(1_000, 0.01);
+
+        // Act & Assert
+        assertFalse(filtro.podriaContener("1712345675"));
+        assertEquals(0.0, filtro.probabilidadFalsoPositivo());
+    }
+
+    @Test
+    @DisplayName("Parámetros inválidos")
+    void parametrosInvalidos() {
+        assertThrows(IllegalArgumentException.class, () -> new FiltroBloom(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new FiltroBloom(1_000, 1.0));
+    }
+}
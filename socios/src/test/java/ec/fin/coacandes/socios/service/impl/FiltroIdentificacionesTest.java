@@ -0,0 +1,152 @@
+package ec.fin.coacandes.socios.service.impl;
+
+import ec.fin.coacandes.socios.repository.SocioRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FiltroIdentificaciones - Pruebas Unitarias")
+class FiltroIdentificacionesTest {
+
+    @Mock
+    private SocioRepository socioRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MeterRegistry registry;
+    private FiltroIdentificaciones filtro;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        filtro = new FiltroIdentificaciones(socioRepository, transactionManager, registry, 0.01, 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        filtro.detener();
+    }
+
+    @Test
+    @DisplayName("Sin construir - Todas las identificaciones se consultan en la base")
+    void sinConstruir_ConsultaTodo() {
+        // Arrange
+        List<String> identificaciones = List.of("1712345675", "1723456784");
+        when(socioRepository.findIdentificacionesExistentes(identificaciones)).thenReturn(List.of("1712345675"));
+
+        // Act
+        List<String> existentes = filtro.buscarExistentes(identificaciones);
+
+        // Assert
+        assertEquals(List.of("1712345675"), existentes);
+        assertFalse(filtro.isConstruido());
+    }
+
+    @Test
+    @DisplayName("Construido - Las identificaciones ausentes no llegan a la base")
+    void construido_DescartaAusentes() {
+        // Arrange
+        when(socioRepository.count()).thenReturn(2L);
+        when(socioRepository.streamIdentificaciones()).thenReturn(Stream.of("1712345675", "1723456784"));
+        filtro.reconstruir();
+        when(socioRepository.findIdentificacionesExistentes(List.of("1712345675")))
+                .thenReturn(List.of("1712345675"));
+
+        // Act
+        List<String> existentes = filtro.buscarExistentes(List.of("1712345675", "1734567892"));
+        List<String> ninguna = filtro.buscarExistentes(List.of("1734567892"));
+
+        // Assert
+        assertTrue(filtro.isConstruido());
+        assertEquals(List.of("1712345675"), existentes);
+        assertTrue(ninguna.isEmpty());
+        verify(socioRepository, times(1)).findIdentificacionesExistentes(anyCollection());
+        assertEquals(2.0, contador("descartada"));
+        assertEquals(1.0, contador("existente"));
+        assertTrue(registry.get(FiltroIdentificaciones.METRICA_MEMORIA).gauge().value() > 0);
+    }
+
+    @Test
+    @DisplayName("Construir - No bloquea el arranque; hasta terminar las consultas van a la base")
+    void construir_EnSegundoPlano() throws Exception {
+        // Arrange
+        CountDownLatch recorrido = new CountDownLatch(1);
+        when(socioRepository.count()).thenAnswer(invocation -> {
+            recorrido.await(5, TimeUnit.SECONDS);
+            return 1L;
+        });
+        when(socioRepository.streamIdentificaciones()).thenReturn(Stream.of("1712345675"));
+        when(socioRepository.findIdentificacionesExistentes(List.of("1734567892"))).thenReturn(List.of());
+
+        // Act
+        Future<?> construccion = filtro.construirEnSegundoPlano();
+        List<String> durante = filtro.buscarExistentes(List.of("1734567892"));
+        recorrido.countDown();
+        construccion.get(5, TimeUnit.SECONDS);
+        List<String> despues = filtro.buscarExistentes(List.of("1734567892"));
+
+        // Assert
+        assertTrue(durante.isEmpty());
+        assertTrue(despues.isEmpty());
+        assertTrue(filtro.isConstruido());
+        verify(socioRepository, times(1)).findIdentificacionesExistentes(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Agregar - Una identificación escrita deja de descartarse; si no está en la base es falso positivo")
+    void agregar_ConsultaYCuentaFalsoPositivo() {
+        // Arrange
+        when(socioRepository.count()).thenReturn(0L);
+        when(socioRepository.streamIdentificaciones()).thenReturn(Stream.empty());
+        filtro.reconstruir();
+        filtro.agregar("1734567892");
+        when(socioRepository.findIdentificacionesExistentes(List.of("1734567892"))).thenReturn(List.of());
+
+        // Act
+        List<String> existentes = filtro.buscarExistentes(List.of("1734567892"));
+
+        // Assert
+        assertTrue(existentes.isEmpty());
+        assertEquals(1.0, contador("falso_positivo"));
+    }
+
+    @Test
+    @DisplayName("Reconstruir - Un fallo conserva el filtro anterior")
+    void reconstruir_FalloConservaAnterior() {
+        // Arrange
+        when(socioRepository.count()).thenReturn(1L).thenThrow(new IllegalStateException("sin conexión"));
+        when(socioRepository.streamIdentificaciones()).thenReturn(Stream.of("1712345675"));
+        filtro.reconstruir();
+
+        // Act
+        filtro.reconstruir();
+
+        // Assert
+        assertTrue(filtro.isConstruido());
+        assertTrue(filtro.buscarExistentes(List.of("1734567892")).isEmpty());
+        verify(socioRepository, never()).findIdentificacionesExistentes(anyCollection());
+    }
+
+    private double contador(String resultado) {
+        return registry.get(FiltroIdentificaciones.METRICA_CONSULTAS).tag("resultado", resultado).counter().count();
+    }
+}
@@ -0,0 +1,153 @@
+package ec.fin.coacandes.socios.service.impl;
+
+import ec.fin.coacandes.socios.repository.SocioRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IndiceIdentificaciones - Pruebas Unitarias")
+class IndiceIdentificacionesTest {
+
+    @Mock
+    private SocioRepository socioRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Deshabilitado - No carga ni responde")
+    void deshabilitado_NoCargaNiResponde() {
+        // Arrange
+        IndiceIdentificaciones indice = new IndiceIdentificaciones(socioRepository, transactionManager, registry, false, 1000);
+
+        // Act
+        indice.cargar();
+        indice.registrar("1712345675", UUID.randomUUID());
+
+        // Assert
+        assertFalse(indice.isHabilitado());
+        assertNull(indice.buscar("1712345675"));
+        verifyNoInteractions(socioRepository);
+        assertEquals(0.0, registry.get(IndiceIdentificaciones.METRICA_MEMORIA).gauge().value());
+    }
+
+    @Test
+    @DisplayName("Cargar - Recorre identificaciones e ids y responde desde memoria")
+    void cargar_RespondeDesdeMemoria() throws Exception {
+        // Arrange
+        UUID primero = UUID.randomUUID();
+        UUID segundo = UUID.randomUUID();
+        IndiceIdentificaciones indice = new IndiceIdentificaciones(socioRepository, transactionManager, registry, true, 1000);
+        when(socioRepository.count()).thenReturn(2L);
+        when(socioRepository.streamIdentificacionesConId()).thenReturn(Stream.of(
+                new Object[]{"1712345675", primero}, new Object[]{"1791234561001", segundo}));
+
+        // Act
+        indice.cargarEnSegundoPlano().get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertEquals(primero, indice.buscar("1712345675"));
+        assertEquals(segundo, indice.buscar("1791234561001"));
+        assertNull(indice.buscar("1734567892"));
+        assertEquals(2.0, registry.get(IndiceIdentificaciones.METRICA_ENTRADAS).gauge().value());
+        assertEquals(2.0, contador("acierto"));
+        assertEquals(1.0, contador("fallo"));
+    }
+
+    @Test
+    @DisplayName("Cargando - No bloquea el arranque, no responde hasta terminar y conserva las escrituras")
+    void cargando_NoRespondeHastaTerminar() throws Exception {
+        // Arrange
+        UUID cargado = UUID.randomUUID();
+        UUID escrito = UUID.randomUUID();
+        CountDownLatch recorrido = new CountDownLatch(1);
+        IndiceIdentificaciones indice = new IndiceIdentificaciones(socioRepository, transactionManager, registry, true, 1000);
+        when(socioRepository.count()).thenAnswer(invocation -> {
+            recorrido.await(5, TimeUnit.SECONDS);
+            return 1L;
+        });
+        when(socioRepository.streamIdentificacionesConId()).thenReturn(Stream.<Object[]>of(
+                new Object[]{"1712345675", cargado}));
+
+        // Act
+        Future<?> carga = indice.cargarEnSegundoPlano();
+        indice.registrar("1723456784", escrito);
+        UUID durante = indice.buscar("1723456784");
+        recorrido.countDown();
+        carga.get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertNull(durante);
+        assertTrue(indice.isCargado());
+        assertEquals(cargado, indice.buscar("1712345675"));
+        assertEquals(escrito, indice.buscar("1723456784"));
+    }
+
+    @Test
+    @DisplayName("Cambio de identificación - Quitar la anterior y registrar la nueva")
+    void cambioIdentificacion() throws Exception {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        IndiceIdentificaciones indice = cargado();
+        indice.registrar("1712345675", id);
+
+        // Act
+        indice.quitar("1712345675", id);
+        indice.registrar("1723456784", id);
+
+        // Assert
+        assertNull(indice.buscar("1712345675"));
+        assertEquals(id, indice.buscar("1723456784"));
+    }
+
+    @Test
+    @DisplayName("Descartar - Cuenta la entrada obsoleta y la quita")
+    void descartar_CuentaYQuita() throws Exception {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        IndiceIdentificaciones indice = cargado();
+        indice.registrar("1712345675", id);
+
+        // Act
+        indice.descartar("1712345675", id);
+
+        // Assert
+        assertNull(indice.buscar("1712345675"));
+        assertEquals(1.0, contador("obsoleta"));
+    }
+
+    private IndiceIdentificaciones cargado() throws Exception {
+        IndiceIdentificaciones indice = new IndiceIdentificaciones(socioRepository, transactionManager, registry, true, 1000);
+        when(socioRepository.count()).thenReturn(0L);
+        when(socioRepository.streamIdentificacionesConId()).thenReturn(Stream.empty());
+        indice.cargarEnSegundoPlano().get(5, TimeUnit.SECONDS);
+        return indice;
+    }
+
+    private double contador(String resultado) {
+        return registry.get(IndiceIdentificaciones.METRICA_CONSULTAS).tag("resultado", resultado).counter().count();
+    }
+}
@@ -0,0 +1,173 @@
+package ec.fin.coacandes.socios.service.impl;
+
+import ec.fin.coacandes.socios.dto.CambioSocioDTO;
+import ec.fin.coacandes.socios.dto.PaginaCambiosSocioDTO;
+import ec.fin.coacandes.socios.dto.TipoCambioSocio;
+import ec.fin.coacandes.socios.entity.Socio;
+import ec.fin.coacandes.socios.entity.SocioEliminado;
+import ec.fin.coacandes.socios.mapper.SocioMapper;
+import ec.fin.coacandes.socios.repository.SocioEliminadoRepository;
+import ec.fin.coacandes.socios.repository.SocioRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SocioCambiosServiceImpl - Pruebas Unitarias")
+class SocioCambiosServiceImplTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 15, 10, 0);
+
+    @Mock
+    private SocioRepository socioRepository;
+
+    @Mock
+    private SocioEliminadoRepository socioEliminadoRepository;
+
+    @Spy
+    private SocioMapper socioMapper = Mappers.getMapper(SocioMapper.class);
+
+    @InjectMocks
+    private SocioCambiosServiceImpl socioCambiosService;
+
+    @Test
+    @DisplayName("Obtener cambios - Mezcla actualizaciones y bajas en orden de ocurrencia")
+    void obtenerCambios_MezclaEnOrden() {
+        // Arrange
+        Socio primero = socio(BASE.plusMinutes(1));
+        Socio tercero = socio(BASE.plusMinutes(3));
+        SocioEliminado segundo = new SocioEliminado(UUID.randomUUID(), "1700000019", BASE.plusMinutes(2));
+        when(socioRepository.findCambiosDesdeInicio(any(), any())).thenReturn(List.of(primero, tercero));
+        when(socioEliminadoRepository.findCambiosDesdeInicio(any(), any())).thenReturn(List.of(segundo));
+
+        // Act
+        PaginaCambiosSocioDTO pagina = socioCambiosService.obtenerCambios(null, 10);
+
+        // Assert
+        List<CambioSocioDTO> cambios = pagina.getCambios();
+        assertEquals(3, cambios.size());
+        assertEquals(primero.getId(), cambios.get(0).getId());
+        assertEquals(TipoCambioSocio.ELIMINADO, cambios.get(1).getTipo());
+        assertNull(cambios.get(1).getSocio());
+        assertEquals(TipoCambioSocio.ACTUALIZADO, cambios.get(2).getTipo());
+        assertNotNull(cambios.get(2).getSocio());
+        assertFalse(pagina.isHayMas());
+        assertEquals(new SocioCursor(tercero.getFechaActualizacion(), tercero.getId()),
+                SocioCursor.decodificar(pagina.getSiguienteCursor()));
+    }
+
+    @Test
+    @DisplayName("Obtener cambios - Recorta al límite y continúa desde el último entregado")
+    void obtenerCambios_RecortaAlLimite() {
+        // Arrange
+        Socio primero = socio(BASE.plusMinutes(1));
+        SocioEliminado segundo = new SocioEliminado(UUID.randomUUID(), "1700000019", BASE.plusMinutes(2));
+        Socio tercero = socio(BASE.plusMinutes(3));
+        SocioCursor desde = new SocioCursor(BASE, UUID.randomUUID());
+        when(socioRepository.findCambiosDespuesDe(eq(desde.fecha()), eq(desde.id()), any(), any()))
+                .thenReturn(List.of(primero, tercero));
+        when(socioEliminadoRepository.findCambiosDespuesDe(eq(desde.fecha()), eq(desde.id()), any(), any()))
+                .thenReturn(List.of(segundo));
+
+        // Act
+        PaginaCambiosSocioDTO pagina = socioCambiosService.obtenerCambios(desde.codificar(), 2);
+
+        // Assert
+        assertEquals(2, pagina.getCambios().size());
+        assertTrue(pagina.isHayMas());
+        assertEquals(new SocioCursor(segundo.getFechaEliminacion(), segundo.getId()),
+                SocioCursor.decodificar(pagina.getSiguienteCursor()));
+    }
+
+    @Test
+    @DisplayName("Obtener cambios - Sin cambios conserva el cursor recibido")
+    void obtenerCambios_SinCambiosConservaCursor() {
+        // Arrange
+        String desde = new SocioCursor(BASE, UUID.randomUUID()).codificar();
+        when(socioRepository.findCambiosDespuesDe(any(), any(), any(), any())).thenReturn(List.of());
+        when(socioEliminadoRepository.findCambiosDespuesDe(any(), any(), any(), any())).thenReturn(List.of());
+
+        // Act
+        PaginaCambiosSocioDTO pagina = socioCambiosService.obtenerCambios(desde, 10);
+
+        // Assert
+        assertTrue(pagina.getCambios().isEmpty());
+        assertEquals(desde, pagina.getSiguienteCursor());
+        assertFalse(pagina.isHayMas());
+    }
+
+    @Test
+    @DisplayName("Obtener cambios - Cursor inválido")
+    void obtenerCambios_CursorInvalido() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> socioCambiosService.obtenerCambios("no-es-un-cursor", 10));
+        verifyNoInteractions(socioRepository, socioEliminadoRepository);
+    }
+
+    @Test
+    @DisplayName("Obtener cambios - Versión 0 es alta; una versión posterior, modificación")
+    void obtenerCambios_DistingueAltaDeModificacion() {
+        // Arrange
+        Socio creado = socio(BASE.plusMinutes(1));
+        creado.setVersion(0L);
+        Socio modificado = socio(BASE.plusMinutes(2));
+        modificado.setVersion(3L);
+        when(socioRepository.findCambiosDesdeInicio(any(), any())).thenReturn(List.of(creado, modificado));
+        when(socioEliminadoRepository.findCambiosDesdeInicio(any(), any())).thenReturn(List.of());
+
+        // Act
+        PaginaCambiosSocioDTO pagina = socioCambiosService.obtenerCambios(null, 10);
+
+        // Assert
+        assertEquals(TipoCambioSocio.CREADO, pagina.getCambios().get(0).getTipo());
+        assertNotNull(pagina.getCambios().get(0).getSocio());
+        assertEquals(TipoCambioSocio.ACTUALIZADO, pagina.getCambios().get(1).getTipo());
+    }
+
+    @Test
+    @DisplayName("Obtener cambios - Un socio desactivado se entrega como baja")
+    void obtenerCambios_DesactivadoComoBaja() {
+        // Arrange
+        Socio desactivado = socio(BASE.plusMinutes(1));
+        desactivado.setActivo(false);
+        when(socioRepository.findCambiosDesdeInicio(any(), any())).thenReturn(List.of(desactivado));
+        when(socioEliminadoRepository.findCambiosDesdeInicio(any(), any())).thenReturn(List.of());
+
+        // Act
+        PaginaCambiosSocioDTO pagina = socioCambiosService.obtenerCambios(null, 10);
+
+        // Assert
+        CambioSocioDTO cambio = pagina.getCambios().get(0);
+        assertEquals(TipoCambioSocio.ELIMINADO, cambio.getTipo());
+        assertEquals(desactivado.getId(), cambio.getId());
+        assertEquals("1700000001", cambio.getIdentificacion());
+        assertNull(cambio.getSocio());
+    }
+
+    private Socio socio(LocalDateTime fechaActualizacion) {
+        Socio socio = new Socio();
+        socio.setId(UUID.randomUUID());
+        socio.setIdentificacion("1700000001");
+        socio.setNombres("Socio");
+        socio.setApellidos("Prueba");
+        socio.setTipoIdentificacion("CEDULA");
+        socio.setFechaCreacion(fechaActualizacion);
+        socio.setFechaActualizacion(fechaActualizacion);
+        return socio;
+    }
+}
@@ -0,0 +1,116 @@
+package ec.fin.coacandes.socios.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import ec.fin.coacandes.socios.dto.FormatoExportacion;
+import ec.fin.coacandes.socios.entity.Socio;
+import ec.fin.coacandes.socios.mapper.SocioMapper;
+import ec.fin.coacandes.socios.repository.SocioRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SocioExportServiceImpl - Pruebas Unitarias")
+class SocioExportServiceImplTest {
+
+    @Mock
+    private SocioRepository socioRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private SocioExportServiceImpl exportService;
+    private Socio socio1;
+    private Socio socio2;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        exportService = new SocioExportServiceImpl(socioRepository, Mappers.getMapper(SocioMapper.class), entityManager, objectMapper);
+
+        socio1 = crearSocio("1712345675", "Juan");
+        socio2 = crearSocio("1723456784", "María");
+    }
+
+    @Test
+    @DisplayName("Exportar NDJSON - Una línea por socio y entidades desasociadas")
+    void exportarNdjson_UnaLineaPorSocio() throws Exception {
+        // Arrange
+        when(socioRepository.streamActivos()).thenReturn(Stream.of(socio1, socio2));
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+
+        // Act
+        long filas = exportService.exportar(FormatoExportacion.NDJSON, salida);
+
+        // Assert
+        String[] lineas = salida.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, filas);
+        assertEquals(2, lineas.length);
+        assertTrue(lineas[0].contains("\"identificacion\":\"1712345675\""));
+        assertTrue(lineas[1].contains("\"nombres\":\"María\""));
+        verify(entityManager).detach(socio1);
+        verify(entityManager).detach(socio2);
+    }
+
+    @Test
+    @DisplayName("Exportar CSV - Cabecera y una fila por socio")
+    void exportarCsv_CabeceraYFilas() throws Exception {
+        // Arrange
+        when(socioRepository.streamActivos()).thenReturn(Stream.of(socio1, socio2));
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+
+        // Act
+        long filas = exportService.exportar(FormatoExportacion.CSV, salida);
+
+        // Assert
+        String[] lineas = salida.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, filas);
+        assertEquals(3, lineas.length);
+        assertTrue(lineas[0].contains("identificacion"));
+        assertTrue(lineas[1].contains("1712345675"));
+    }
+
+    @Test
+    @DisplayName("Exportar sin socios - Salida vacía")
+    void exportarSinSocios_SalidaVacia() throws Exception {
+        // Arrange
+        when(socioRepository.streamActivos()).thenReturn(Stream.empty());
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+
+        // Act
+        long filas = exportService.exportar(FormatoExportacion.NDJSON, salida);
+
+        // Assert
+        assertEquals(0, filas);
+        assertEquals(0, salida.size());
+        verifyNoInteractions(entityManager);
+    }
+
+    private Socio crearSocio(String identificacion, String nombres) {
+        Socio socio = new Socio();
+        socio.setId(UUID.randomUUID());
+        socio.setIdentificacion(identificacion);
+        socio.setNombres(nombres);
+        socio.setApellidos("Pérez");
+        socio.setTipoIdentificacion("CEDULA");
+        socio.setActivo(true);
+        return socio;
+    }
+}
@@ -0,0 +1,167 @@
+package ec.fin.coacandes.socios.service.impl;
+
+import ec.fin.coacandes.socios.dto.EstadoImportacion;
+import ec.fin.coacandes.socios.dto.EstadoItemLote;
+import ec.fin.coacandes.socios.dto.ImportacionSociosDTO;
+import ec.fin.coacandes.socios.dto.ResultadoItemLoteDTO;
+import ec.fin.coacandes.socios.dto.SocioRequestDTO;
+import ec.fin.coacandes.socios.service.SocioLoteService;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SocioImportacionServiceImpl - Pruebas Unitarias")
+class SocioImportacionServiceImplTest {
+
+    private static final String CABECERA = "identificacion,nombres,apellidos,email,telefono,direccion,tipoIdentificacion\n";
+
+    @Mock
+    private SocioLoteService socioLoteService;
+
+    @TempDir
+    Path directorio;
+
+    private SocioImportacionServiceImpl importacionService;
+
+    @BeforeEach
+    void setUp() {
+        importacionService = new SocioImportacionServiceImpl(socioLoteService, directorio.toString(),
+                DataSize.ofKilobytes(1), 1, 1, Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        importacionService.detener();
+    }
+
+    @Test
+    @DisplayName("Procesar - Crea las filas válidas y escribe los rechazos")
+    void procesar_CreaYRegistraRechazos() throws IOException {
+        // Arrange
+        ImportacionSocios importacion = importacion(CABECERA
+                + "1712345675,Juan,Pérez,,0987654321,\"Av. Principal 123, Quito\",CEDULA\n"
+                + "123,Ana,López,ana@test.com,,,CEDULA\n"
+                + "\n"
+                + "1723456784,María,Rodríguez,maria@test.com,,,CEDULA\n");
+        List<SocioRequestDTO> recibidos = new ArrayList<>();
+        when(socioLoteService.procesarBloque(anyList(), eq(0))).thenAnswer(invocacion -> {
+            recibidos.addAll(invocacion.getArgument(0));
+            return List.of(
+                    new ResultadoItemLoteDTO(0, "1712345675", EstadoItemLote.CREADO, UUID.randomUUID(), null),
+                    new ResultadoItemLoteDTO(1, "123", EstadoItemLote.INVALIDO, null, "identificacion: Identificación inválida"),
+                    new ResultadoItemLoteDTO(2, "1723456784", EstadoItemLote.DUPLICADO, null, "Ya existe"));
+        });
+
+        // Act
+        importacionService.procesar(importacion);
+
+        // Assert
+        ImportacionSociosDTO estado = importacion.aDTO();
+        assertEquals(EstadoImportacion.COMPLETADA, estado.getEstado());
+        assertEquals(3, estado.getFilasProcesadas());
+        assertEquals(1, estado.getCreados());
+        assertEquals(2, estado.getRechazados());
+        assertNotNull(estado.getFechaFin());
+
+        assertEquals(3, recibidos.size());
+        assertNull(recibidos.get(0).getEmail());
+        assertEquals("Av. Principal 123, Quito", recibidos.get(0).getDireccion());
+        assertEquals("CEDULA", recibidos.get(2).getTipoIdentificacion());
+
+        List<String> rechazos = Files.readAllLines(importacion.getRechazos());
+        // Líneas del archivo original: la cabecera es la 1 y la línea vacía también cuenta
+        assertEquals(3, rechazos.size());
+        assertEquals("linea,identificacion,estado,motivo", rechazos.get(0));
+        assertTrue(rechazos.get(1).startsWith("3,123,INVALIDO,"));
+        assertTrue(rechazos.get(1).contains("Identificación inválida"));
+        assertTrue(rechazos.get(2).startsWith("5,1723456784,DUPLICADO,"));
+        assertFalse(Files.exists(importacion.getArchivo()));
+    }
+
+    @Test
+    @DisplayName("Procesar - Cabecera sin columnas obligatorias falla sin insertar")
+    void procesar_FaltanColumnas() {
+        // Arrange
+        ImportacionSocios importacion = importacion("identificacion,nombres\n1712345675,Juan\n");
+
+        // Act
+        importacionService.procesar(importacion);
+
+        // Assert
+        ImportacionSociosDTO estado = importacion.aDTO();
+        assertEquals(EstadoImportacion.FALLIDA, estado.getEstado());
+        assertTrue(estado.getMensaje().contains("apellidos, tipoIdentificacion"));
+        verifyNoInteractions(socioLoteService);
+    }
+
+    @Test
+    @DisplayName("Iniciar - Archivo vacío")
+    void iniciar_ArchivoVacio() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> importacionService.iniciar(new ByteArrayInputStream(new byte[0])));
+        assertEquals(0, cantidadArchivos());
+    }
+
+    @Test
+    @DisplayName("Iniciar - Archivo mayor al tamaño máximo no deja temporales")
+    void iniciar_SuperaTamanioMaximo() {
+        // Arrange
+        byte[] grande = new byte[2048];
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> importacionService.iniciar(new ByteArrayInputStream(grande)));
+        assertTrue(exception.getMessage().contains("tamaño máximo"));
+        assertEquals(0, cantidadArchivos());
+    }
+
+    @Test
+    @DisplayName("Obtener estado - Importación inexistente")
+    void obtenerEstado_Inexistente() {
+        // Act & Assert
+        assertThrows(EntityNotFoundException.class, () -> importacionService.obtenerEstado(UUID.randomUUID()));
+    }
+
+    private ImportacionSocios importacion(String contenido) {
+        try {
+            UUID id = UUID.randomUUID();
+            Path archivo = directorio.resolve(id + ".csv");
+            Files.writeString(archivo, contenido, StandardCharsets.UTF_8);
+            return new ImportacionSocios(id, archivo, directorio.resolve(id + "-rechazos.csv"), Files.size(archivo));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private long cantidadArchivos() {
+        try (var archivos = Files.list(directorio)) {
+            return archivos.count();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package ec.fin.coacandes.socios.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ec.fin.coacandes.socios.dto.EstadoItemLote;
+import ec.fin.coacandes.socios.dto.ResultadoItemLoteDTO;
+import ec.fin.coacandes.socios.dto.ResultadoLoteDTO;
+import ec.fin.coacandes.socios.entity.Socio;
+import ec.fin.coacandes.socios.mapper.SocioMapper;
+import ec.fin.coacandes.socios.repository.SocioRepository;
+import ec.fin.coacandes.socios.service.SocioOutboxService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SocioLoteServiceImpl - Pruebas Unitarias")
+class SocioLoteServiceImplTest {
+
+    private static Validator validator;
+
+    @Mock
+    private SocioRepository socioRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private SocioOutboxService socioOutboxService;
+
+    private SocioLoteServiceImpl loteService;
+
+    @BeforeAll
+    static void setUpValidator() {
+        validator = Validation.buildDefaultValidatorFactory().getValidator();
+    }
+
+    @BeforeEach
+    void setUp() {
+        loteService = new SocioLoteServiceImpl(socioRepository, Mappers.getMapper(SocioMapper.class),
+                validator, new ObjectMapper(), entityManager, transactionTemplate, socioOutboxService,
+                new FiltroIdentificaciones(socioRepository, mock(PlatformTransactionManager.class),
+                        new SimpleMeterRegistry(), 0.01, 1000),
+                new IndiceIdentificaciones(socioRepository, mock(PlatformTransactionManager.class),
+                        new SimpleMeterRegistry(), false, 1000));
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        lenient().when(socioRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Socio> socios = invocation.getArgument(0);
+            socios.forEach(socio -> socio.setId(UUID.randomUUID()));
+            return socios;
+        });
+    }
+
+    @Test
+    @DisplayName("Crear en lote - Crea válidos y reporta inválidos, duplicados y existentes")
+    void crearEnLote_ResultadosPorElemento() {
+        // Arrange
+        when(socioRepository.findIdentificacionesExistentes(anyCollection())).thenReturn(List.of("1723456784"));
+        String json = "["
+                + socio("1712345675", "juan@test.com") + ","
+                + socio("1712345675", "otro@test.com") + ","
+                + socio("1723456784", "maria@test.com") + ","
+                + socio("12AB", "pedro@test.com")
+                + "]";
+
+        // Act
+        ResultadoLoteDTO resultado = crearEnLote(json);
+
+        // Assert
+        assertEquals(4, resultado.getTotal());
+        assertEquals(1, resultado.getCreados());
+        assertEquals(3, resultado.getRechazados());
+        assertEquals(EstadoItemLote.CREADO, resultado.getItems().get(0).getEstado());
+        assertNotNull(resultado.getItems().get(0).getId());
+        assertEquals(EstadoItemLote.DUPLICADO, resultado.getItems().get(1).getEstado());
+        assertEquals(EstadoItemLote.DUPLICADO, resultado.getItems().get(2).getEstado());
+        assertEquals(EstadoItemLote.INVALIDO, resultado.getItems().get(3).getEstado());
+        verify(socioRepository, times(1)).findIdentificacionesExistentes(anyCollection());
+        verify(socioRepository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Crear en lote - Reintenta por fila si el bloque viola una restricción")
+    void crearEnLote_ReintentoPorFila() {
+        // Arrange
+        when(socioRepository.findIdentificacionesExistentes(anyCollection())).thenReturn(List.of());
+        doThrow(new DataIntegrityViolationException("email duplicado"))
+                .doThrow(new DataIntegrityViolationException("email duplicado"))
+                .doNothing()
+                .when(socioRepository).flush();
+        String json = "[" + socio("1712345675", "repetido@test.com") + ","
+                + socio("1723456784", "unico@test.com") + "]";
+
+        // Act
+        ResultadoLoteDTO resultado = crearEnLote(json);
+
+        // Assert
+        assertEquals(1, resultado.getCreados());
+        assertEquals(EstadoItemLote.DUPLICADO, resultado.getItems().get(0).getEstado());
+        assertEquals(EstadoItemLote.CREADO, resultado.getItems().get(1).getEstado());
+    }
+
+    @Test
+    @DisplayName("Crear en lote - El reintento por fila de un bloque posterior informa la posición en el arreglo")
+    void crearEnLote_ReintentoPorFilaConservaPosicion() {
+        // Arrange
+        when(socioRepository.findIdentificacionesExistentes(anyCollection())).thenReturn(List.of());
+        // Primer bloque: dos flush sin error; segundo bloque: falla completo y luego la primera fila
+        doNothing().doNothing()
+                .doThrow(new DataIntegrityViolationException("email duplicado"))
+                .doThrow(new DataIntegrityViolationException("email duplicado"))
+                .doNothing()
+                .when(socioRepository).flush();
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < SocioLoteServiceImpl.TAMANIO_BLOQUE; i++) {
+            json.append(socio(cedula(i), "socio" + i + "@test.com")).append(',');
+        }
+        json.append(socio("1712345675", "repetido@test.com")).append(',')
+                .append(socio("1723456784", "unico@test.com")).append(']');
+
+        // Act
+        ResultadoLoteDTO resultado = crearEnLote(json.toString());
+
+        // Assert
+        int primeroSegundoBloque = SocioLoteServiceImpl.TAMANIO_BLOQUE;
+        assertEquals(primeroSegundoBloque + 2, resultado.getTotal());
+        assertEquals(1, resultado.getRechazados());
+        ResultadoItemLoteDTO rechazado = resultado.getItems().get(primeroSegundoBloque);
+        assertEquals(primeroSegundoBloque, rechazado.getIndice());
+        assertEquals("1712345675", rechazado.getIdentificacion());
+        assertEquals(EstadoItemLote.DUPLICADO, rechazado.getEstado());
+        assertEquals(primeroSegundoBloque + 1, resultado.getItems().get(primeroSegundoBloque + 1).getIndice());
+        assertEquals(EstadoItemLote.CREADO, resultado.getItems().get(primeroSegundoBloque + 1).getEstado());
+        for (int i = 0; i < primeroSegundoBloque; i++) {
+            assertEquals(i, resultado.getItems().get(i).getIndice());
+        }
+    }
+
+    @Test
+    @DisplayName("Crear en lote - JSON interrumpido: informa lo procesado y la posición donde se detuvo")
+    void crearEnLote_JsonInterrumpido() {
+        // Arrange
+        when(socioRepository.findIdentificacionesExistentes(anyCollection())).thenReturn(List.of());
+        String json = "[" + socio("1712345675", "juan@test.com") + ","
+                + socio("1723456784", "maria@test.com") + ",{\"identificacion\":";
+
+        // Act
+        ResultadoLoteDTO resultado = crearEnLote(json);
+
+        // Assert
+        assertEquals(2, resultado.getCreados());
+        assertEquals(1, resultado.getRechazados());
+        ResultadoItemLoteDTO error = resultado.getItems().get(2);
+        assertEquals(2, error.getIndice());
+        assertEquals(EstadoItemLote.ERROR, error.getEstado());
+        assertTrue(error.getMensaje().startsWith("JSON inválido"));
+    }
+
+    @Test
+    @DisplayName("Crear en lote - Arreglo vacío")
+    void crearEnLote_ArregloVacio() {
+        // Act
+        ResultadoLoteDTO resultado = crearEnLote("[]");
+
+        // Assert
+        assertEquals(0, resultado.getTotal());
+        verifyNoInteractions(socioRepository);
+    }
+
+    @Test
+    @DisplayName("Crear en lote - JSON que no es arreglo")
+    void crearEnLote_NoEsArreglo() {
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> crearEnLote(socio("1712345675", "juan@test.com"))
+        );
+
+        assertEquals("Se esperaba un arreglo JSON de socios", exception.getMessage());
+    }
+
+    private ResultadoLoteDTO crearEnLote(String json) {
+        return loteService.crearEnLote(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    // Cédula de Pichincha con dígito verificador válido, distinta para cada número
+    private static String cedula(int numero) {
+        String base = "17" + String.format("%07d", numero);
+        int suma = 0;
+        for (int i = 0; i < 9; i++) {
+            int producto = (base.charAt(i) - '0') * (i % 2 == 0 ? 2 : 1);
+            suma += producto > 9 ? producto - 9 : producto;
+        }
+        return base + (10 - suma % 10) % 10;
+    }
+
+    private String socio(String identificacion, String email) {
+        return "{\"identificacion\":\"" + identificacion + "\",\"nombres\":\"Juan\",\"apellidos\":\"Pérez\","
+                + "\"email\":\"" + email + "\",\"tipoIdentificacion\":\"CEDULA\"}";
+    }
+}
@@ -0,0 +1,113 @@
+package ec.fin.coacandes.socios.service.impl;
+
+import ec.fin.coacandes.socios.dto.EventoSocioDTO;
+import ec.fin.coacandes.socios.dto.TipoEventoSocio;
+import ec.fin.coacandes.socios.entity.EventoSocio;
+import ec.fin.coacandes.socios.repository.EventoSocioRepository;
+import ec.fin.coacandes.socios.service.DestinoEventos;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SocioOutboxRelay - Pruebas Unitarias")
+class SocioOutboxRelayTest {
+
+    @Mock
+    private EventoSocioRepository eventoSocioRepository;
+
+    @Mock
+    private DestinoEventos destino;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private SimpleMeterRegistry registry;
+    private SocioOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        relay = new SocioOutboxRelay(eventoSocioRepository, destino, transactionTemplate, registry, 2);
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("Publicar pendientes - Entrega los eventos y los elimina del outbox")
+    @SuppressWarnings("unchecked")
+    void publicarPendientes_EntregaYElimina() throws Exception {
+        // Arrange
+        List<EventoSocio> pendientes = List.of(evento(1L));
+        when(eventoSocioRepository.findPendientes(any())).thenReturn(pendientes);
+
+        // Act
+        relay.publicarPendientes();
+
+        // Assert
+        ArgumentCaptor<List<EventoSocioDTO>> captor = ArgumentCaptor.forClass(List.class);
+        verify(destino).publicar(captor.capture());
+        assertEquals(1L, captor.getValue().get(0).getId());
+        assertEquals("{\"id\":1}", captor.getValue().get(0).getSocio());
+        verify(eventoSocioRepository).deleteAllInBatch(pendientes);
+        assertEquals(1.0, registry.get(SocioOutboxRelay.METRICA_PUBLICADOS).counter().count());
+    }
+
+    @Test
+    @DisplayName("Publicar pendientes - Repite mientras los lotes estén completos")
+    void publicarPendientes_VaciaLaCola() throws Exception {
+        // Arrange
+        when(eventoSocioRepository.findPendientes(any()))
+                .thenReturn(List.of(evento(1L), evento(2L)))
+                .thenReturn(List.of(evento(3L)));
+
+        // Act
+        relay.publicarPendientes();
+
+        // Assert
+        verify(destino, times(2)).publicar(any());
+        assertEquals(3.0, registry.get(SocioOutboxRelay.METRICA_PUBLICADOS).counter().count());
+    }
+
+    @Test
+    @DisplayName("Publicar pendientes - Si el destino falla los eventos se conservan")
+    void publicarPendientes_DestinoFalla() throws Exception {
+        // Arrange
+        when(eventoSocioRepository.findPendientes(any())).thenReturn(List.of(evento(1L)));
+        doThrow(new IOException("disco lleno")).when(destino).publicar(any());
+
+        // Act
+        relay.publicarPendientes();
+
+        // Assert
+        verify(eventoSocioRepository, never()).deleteAllInBatch(any());
+        assertEquals(1.0, registry.get(SocioOutboxRelay.METRICA_FALLIDOS).counter().count());
+        assertEquals(0.0, registry.get(SocioOutboxRelay.METRICA_PUBLICADOS).counter().count());
+    }
+
+    private EventoSocio evento(long id) {
+        EventoSocio evento = new EventoSocio();
+        evento.setId(id);
+        evento.setTipo(TipoEventoSocio.SOCIO_CREADO);
+        evento.setSocioId(UUID.randomUUID());
+        evento.setContenido("{\"id\":" + id + "}");
+        evento.setFechaCreacion(LocalDateTime.now().minusSeconds(1));
+        return evento;
+    }
+}
@@ -1,19 +1,37 @@
 package ec.fin.coacandes.socios.service.impl;
 
+import ec.fin.coacandes.socios.config.CacheConfig;
+import ec.fin.coacandes.socios.dto.ConsultaMasivaRequestDTO;
+import ec.fin.coacandes.socios.dto.ConsultaMasivaResponseDTO;
+import ec.fin.coacandes.socios.dto.PaginaSociosDTO;
+import ec.fin.coacandes.socios.dto.SocioPatchDTO;
 import ec.fin.coacandes.socios.dto.SocioRequestDTO;
 import ec.fin.coacandes.socios.dto.SocioResponseDTO;
+import ec.fin.coacandes.socios.dto.TipoEventoSocio;
 import ec.fin.coacandes.socios.entity.Socio;
+import ec.fin.coacandes.socios.exception.VersionNoCoincideException;
+import ec.fin.coacandes.socios.mapper.SocioMapper;
+import ec.fin.coacandes.socios.repository.SocioEliminadoRepository;
 import ec.fin.coacandes.socios.repository.SocioRepository;
+import ec.fin.coacandes.socios.service.SocioOutboxService;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
-
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -32,7 +50,23 @@ class SocioServiceImplTest {
     private SocioRepository socioRepository;
 
     @Mock
-    private ModelMapper modelMapper;
+    private SocioEliminadoRepository socioEliminadoRepository;
+
+    @Mock
+    private SocioOutboxService socioOutboxService;
+
+    @Mock
+    private FiltroIdentificaciones filtroIdentificaciones;
+
+    @Mock
+    private IndiceIdentificaciones indiceIdentificaciones;
+
+    @Spy
+    private SocioMapper socioMapper = Mappers.getMapper(SocioMapper.class);
+
+    @Spy
+    private CacheManager cacheManager = new ConcurrentMapCacheManager(
+            CacheConfig.SOCIOS_POR_ID, CacheConfig.SOCIOS_POR_IDENTIFICACION);
 
     @InjectMocks
     private SocioServiceImpl socioService;
@@ -47,7 +81,7 @@ class SocioServiceImplTest {
         socioId = UUID.randomUUID();
 
         socioRequest = new SocioRequestDTO();
-        socioRequest.setIdentificacion("1712345678");
+        socioRequest.setIdentificacion("1712345675");
         socioRequest.setNombres("Juan");
         socioRequest.setApellidos("Pérez");
         socioRequest.setEmail("juan.perez@test.com");
@@ -57,7 +91,7 @@ class SocioServiceImplTest {
 
         socio = new Socio();
         socio.setId(socioId);
-        socio.setIdentificacion("1712345678");
+        socio.setIdentificacion("1712345675");
         socio.setNombres("Juan");
         socio.setApellidos("Pérez");
         socio.setEmail("juan.perez@test.com");
@@ -65,10 +99,11 @@ class SocioServiceImplTest {
         socio.setDireccion("Av. Principal 123");
         socio.setTipoIdentificacion("CEDULA");
         socio.setActivo(true);
+        socio.setVersion(0L);
 
         socioResponse = new SocioResponseDTO();
         socioResponse.setId(socioId);
-        socioResponse.setIdentificacion("1712345678");
+        socioResponse.setIdentificacion("1712345675");
         socioResponse.setNombres("Juan");
         socioResponse.setApellidos("Pérez");
         socioResponse.setEmail("juan.perez@test.com");
@@ -79,10 +114,7 @@ class SocioServiceImplTest {
     @DisplayName("Crear socio - Exitoso")
     void crearSocio_Exitoso() {
         // Arrange
-        when(socioRepository.existsByIdentificacion(socioRequest.getIdentificacion())).thenReturn(false);
-        when(modelMapper.map(socioRequest, Socio.class)).thenReturn(socio);
-        when(socioRepository.save(any(Socio.class))).thenReturn(socio);
-        when(modelMapper.map(socio, SocioResponseDTO.class)).thenReturn(socioResponse);
+        when(socioRepository.saveAndFlush(any(Socio.class))).thenReturn(socio);
 
         // Act
         SocioResponseDTO resultado = socioService.crearSocio(socioRequest);
@@ -91,25 +123,27 @@ class SocioServiceImplTest {
         assertNotNull(resultado);
         assertEquals(socioRequest.getIdentificacion(), resultado.getIdentificacion());
         assertEquals(socioRequest.getNombres(), resultado.getNombres());
-        verify(socioRepository).existsByIdentificacion(socioRequest.getIdentificacion());
-        verify(socioRepository).save(any(Socio.class));
+        verify(socioRepository, never()).existsByIdentificacion(any());
+        verify(socioRepository).saveAndFlush(any(Socio.class));
+        verify(filtroIdentificaciones).agregar("1712345675");
+        verify(indiceIdentificaciones).registrar("1712345675", socioId);
+        verify(socioOutboxService).registrar(eq(TipoEventoSocio.SOCIO_CREADO), any(), any(SocioResponseDTO.class));
     }
 
     @Test
     @DisplayName("Crear socio - Identificación duplicada")
     void crearSocio_IdentificacionDuplicada() {
         // Arrange
-        when(socioRepository.existsByIdentificacion(socioRequest.getIdentificacion())).thenReturn(true);
+        when(socioRepository.saveAndFlush(any(Socio.class)))
+                .thenThrow(new DataIntegrityViolationException(Socio.UK_IDENTIFICACION));
 
         // Act & Assert
-        IllegalArgumentException exception = assertThrows(
-                IllegalArgumentException.class,
+        assertThrows(
+                DataIntegrityViolationException.class,
                 () -> socioService.crearSocio(socioRequest)
         );
 
-        assertEquals("Ya existe un socio con esta identificación", exception.getMessage());
-        verify(socioRepository).existsByIdentificacion(socioRequest.getIdentificacion());
-        verify(socioRepository, never()).save(any(Socio.class));
+        verify(socioRepository, never()).existsByIdentificacion(any());
     }
 
     @Test
@@ -117,63 +151,177 @@ class SocioServiceImplTest {
     void actualizarSocio_Exitoso() {
         // Arrange
         socio.setIdentificacion(socioRequest.getIdentificacion()); // Asegurar que sean iguales
-        when(socioRepository.findById(socioId)).thenReturn(Optional.of(socio));
-        when(socioRepository.save(any(Socio.class))).thenReturn(socio);
-        when(modelMapper.map(socio, SocioResponseDTO.class)).thenReturn(socioResponse);
-        doNothing().when(modelMapper).map(socioRequest, socio);
+        when(socioRepository.findByIdAndActivoTrue(socioId)).thenReturn(Optional.of(socio));
+        when(socioRepository.saveAndFlush(any(Socio.class))).thenReturn(socio);
 
         // Act
-        SocioResponseDTO resultado = socioService.actualizarSocio(socioId, socioRequest);
+        SocioResponseDTO resultado = socioService.actualizarSocio(socioId, socioRequest, null);
 
         // Assert
         assertNotNull(resultado);
         assertEquals(socioId, resultado.getId());
-        verify(socioRepository).findById(socioId);
-        verify(socioRepository).save(any(Socio.class));
+        verify(socioRepository).findByIdAndActivoTrue(socioId);
+        verify(socioRepository).saveAndFlush(any(Socio.class));
+        verify(socioOutboxService).registrar(eq(TipoEventoSocio.SOCIO_ACTUALIZADO), eq(socioId), any(SocioResponseDTO.class));
+    }
+
+    @Test
+    @DisplayName("Actualizar socio - Invalida la caché por id e identificación anterior")
+    void actualizarSocio_InvalidaCache() {
+        // Arrange
+        cacheManager.getCache(CacheConfig.SOCIOS_POR_ID).put(socioId, socioResponse);
+        cacheManager.getCache(CacheConfig.SOCIOS_POR_IDENTIFICACION).put("1712345675", socioResponse);
+        socioRequest.setIdentificacion("1718765439");
+        when(socioRepository.findByIdAndActivoTrue(socioId)).thenReturn(Optional.of(socio));
+        when(socioRepository.saveAndFlush(any(Socio.class))).thenReturn(socio);
+
+        // Act
+        socioService.actualizarSocio(socioId, socioRequest, null);
+
+        // Assert
+        assertNull(cacheManager.getCache(CacheConfig.SOCIOS_POR_ID).get(socioId));
+        assertNull(cacheManager.getCache(CacheConfig.SOCIOS_POR_IDENTIFICACION).get("1712345675"));
+    }
+
+    @Test
+    @DisplayName("Actualizar socio - Un cambio de identificación se refleja en el índice")
+    void actualizarSocio_CambioIdentificacionActualizaIndice() {
+        // Arrange
+        socioRequest.setIdentificacion("1718765439");
+        when(socioRepository.findByIdAndActivoTrue(socioId)).thenReturn(Optional.of(socio));
+        when(socioRepository.saveAndFlush(any(Socio.class))).thenReturn(socio);
+
+        // Act
+        socioService.actualizarSocio(socioId, socioRequest, null);
+
+        // Assert
+        verify(indiceIdentificaciones).quitar("1712345675", socioId);
+        verify(indiceIdentificaciones).registrar("1718765439", socioId);
+    }
+
+    @Test
+    @DisplayName("Parchear socio - Solo modifica los campos enviados")
+    void parchearSocio_SoloCamposEnviados() {
+        // Arrange
+        SocioPatchDTO cambios = new SocioPatchDTO();
+        cambios.setTelefono("0991112233");
+        when(socioRepository.findByIdAndActivoTrue(socioId)).thenReturn(Optional.of(socio));
+        when(socioRepository.saveAndFlush(any(Socio.class))).thenAnswer(invocacion -> {
+            Socio guardado = invocacion.getArgument(0);
+            guardado.setVersion(guardado.getVersion() + 1);
+            return guardado;
+        });
+
+        // Act
+        SocioResponseDTO resultado = socioService.parchearSocio(socioId, cambios, null);
+
+        // Assert
+        assertEquals("0991112233", resultado.getTelefono());
+        assertEquals("Juan", resultado.getNombres());
+        assertEquals("juan.perez@test.com", resultado.getEmail());
+        assertEquals("1712345675", resultado.getIdentificacion());
+        verify(socioOutboxService).registrar(eq(TipoEventoSocio.SOCIO_ACTUALIZADO), eq(socioId), any(SocioResponseDTO.class));
+    }
+
+    @Test
+    @DisplayName("Parchear socio - Sin cambios no publica evento")
+    void parchearSocio_SinCambiosNoPublicaEvento() {
+        // Arrange
+        when(socioRepository.findByIdAndActivoTrue(socioId)).thenReturn(Optional.of(socio));
+        when(socioRepository.saveAndFlush(any(Socio.class))).thenReturn(socio);
+
+        // Act
+        SocioResponseDTO resultado = socioService.parchearSocio(socioId, new SocioPatchDTO(), null);
+
+        // Assert
+        assertEquals("0987654321", resultado.getTelefono());
+        verifyNoInteractions(socioOutboxService);
+    }
+
+    @Test
+    @DisplayName("Parchear socio - Tipo RUC con la cédula guardada - No escribe")
+    void parchearSocio_TipoNoCorrespondeAIdentificacion() {
+        // Arrange
+        SocioPatchDTO cambios = new SocioPatchDTO();
+        cambios.setTipoIdentificacion("RUC");
+        when(socioRepository.findByIdAndActivoTrue(socioId)).thenReturn(Optional.of(socio));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> socioService.parchearSocio(socioId, cambios, null));
+        assertEquals("CEDULA", socio.getTipoIdentificacion());
+        verify(socioRepository, never()).saveAndFlush(any());
+        verifyNoInteractions(socioOutboxService);
+    }
+
+    @Test
+    @DisplayName("Parchear socio - Socio no encontrado")
+    void parchearSocio_NoEncontrado() {
+        // Arrange
+        when(socioRepository.findByIdAndActivoTrue(socioId)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(EntityNotFoundException.class,
+                () -> socioService.parchearSocio(socioId, new SocioPatchDTO(), null));
+        verify(socioRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("Actualizar socio - Versión distinta a If-Match - No escribe")
+    void actualizarSocio_VersionNoCoincide() {
+        // Arrange
+        cacheManager.getCache(CacheConfig.SOCIOS_POR_ID).put(socioId, socioResponse);
+        when(socioRepository.findByIdAndActivoTrue(socioId)).thenReturn(Optional.of(socio));
+
+        // Act & Assert
+        assertThrows(VersionNoCoincideException.class,
+                () -> socioService.actualizarSocio(socioId, socioRequest, 7L));
+        verify(socioRepository, never()).saveAndFlush(any());
+        verifyNoInteractions(socioOutboxService);
+        assertNotNull(cacheManager.getCache(CacheConfig.SOCIOS_POR_ID).get(socioId));
     }
 
     @Test
     @DisplayName("Actualizar socio - Socio no encontrado")
     void actualizarSocio_SocioNoEncontrado() {
         // Arrange
-        when(socioRepository.findById(socioId)).thenReturn(Optional.empty());
+        when(socioRepository.findByIdAndActivoTrue(socioId)).thenReturn(Optional.empty());
 
         // Act & Assert
         EntityNotFoundException exception = assertThrows(
                 EntityNotFoundException.class,
-                () -> socioService.actualizarSocio(socioId, socioRequest)
+                () -> socioService.actualizarSocio(socioId, socioRequest, null)
         );
 
         assertEquals("Socio no encontrado", exception.getMessage());
-        verify(socioRepository).findById(socioId);
-        verify(socioRepository, never()).save(any(Socio.class));
+        verify(socioRepository).findByIdAndActivoTrue(socioId);
+        verify(socioRepository, never()).saveAndFlush(any(Socio.class));
     }
 
     @Test
     @DisplayName("Actualizar socio - Nueva identificación duplicada")
     void actualizarSocio_NuevaIdentificacionDuplicada() {
         // Arrange
-        socioRequest.setIdentificacion("1798765432");
-        when(socioRepository.findById(socioId)).thenReturn(Optional.of(socio));
-        when(socioRepository.existsByIdentificacion("1798765432")).thenReturn(true);
+        socioRequest.setIdentificacion("1718765439");
+        when(socioRepository.findByIdAndActivoTrue(socioId)).thenReturn(Optional.of(socio));
+        when(socioRepository.saveAndFlush(any(Socio.class)))
+                .thenThrow(new DataIntegrityViolationException(Socio.UK_IDENTIFICACION));
 
         // Act & Assert
-        IllegalArgumentException exception = assertThrows(
-                IllegalArgumentException.class,
-                () -> socioService.actualizarSocio(socioId, socioRequest)
+        assertThrows(
+                DataIntegrityViolationException.class,
+                () -> socioService.actualizarSocio(socioId, socioRequest, null)
         );
 
-        assertEquals("La nueva identificación ya está registrada", exception.getMessage());
-        verify(socioRepository).findById(socioId);
-        verify(socioRepository, never()).save(any(Socio.class));
+        verify(socioRepository).findByIdAndActivoTrue(socioId);
+        verify(socioRepository, never()).existsByIdentificacion(any());
     }
 
     @Test
     @DisplayName("Obtener socio por ID - Exitoso")
     void obtenerSocioPorId_Exitoso() {
         // Arrange
-        when(socioRepository.findById(socioId)).thenReturn(Optional.of(socio));
-        when(modelMapper.map(socio, SocioResponseDTO.class)).thenReturn(socioResponse);
+        when(socioRepository.findByIdAndActivoTrue(socioId)).thenReturn(Optional.of(socio));
 
         // Act
         SocioResponseDTO resultado = socioService.obtenerSocioPorId(socioId);
@@ -181,14 +329,14 @@ class SocioServiceImplTest {
         // Assert
         assertNotNull(resultado);
         assertEquals(socioId, resultado.getId());
-        verify(socioRepository).findById(socioId);
+        verify(socioRepository).findByIdAndActivoTrue(socioId);
     }
 
     @Test
     @DisplayName("Obtener socio por ID - No encontrado")
     void obtenerSocioPorId_NoEncontrado() {
         // Arrange
-        when(socioRepository.findById(socioId)).thenReturn(Optional.empty());
+        when(socioRepository.findByIdAndActivoTrue(socioId)).thenReturn(Optional.empty());
 
         // Act & Assert
         EntityNotFoundException exception = assertThrows(
@@ -197,7 +345,36 @@ class SocioServiceImplTest {
         );
 
         assertEquals("Socio no encontrado", exception.getMessage());
-        verify(socioRepository).findById(socioId);
+        verify(socioRepository).findByIdAndActivoTrue(socioId);
+    }
+
+    @Test
+    @DisplayName("Obtener versión - Con el socio en caché no consulta la base")
+    void obtenerVersion_DesdeCache() {
+        // Arrange
+        socioResponse.setVersion(3L);
+        cacheManager.getCache(CacheConfig.SOCIOS_POR_ID).put(socioId, socioResponse);
+
+        // Act
+        Long resultado = socioService.obtenerVersion(socioId);
+
+        // Assert
+        assertEquals(3L, resultado);
+        verifyNoInteractions(socioRepository);
+    }
+
+    @Test
+    @DisplayName("Obtener versión - Sin caché usa la proyección sin cargar la entidad")
+    void obtenerVersion_Exitoso() {
+        // Arrange
+        when(socioRepository.findVersionById(socioId)).thenReturn(Optional.of(4L));
+
+        // Act
+        Long resultado = socioService.obtenerVersion(socioId);
+
+        // Assert
+        assertEquals(4L, resultado);
+        verify(socioRepository, never()).findById(any());
     }
 
     @Test
@@ -206,83 +383,159 @@ class SocioServiceImplTest {
         // Arrange
         Socio socio2 = new Socio();
         socio2.setId(UUID.randomUUID());
-        socio2.setIdentificacion("1723456789");
+        socio2.setIdentificacion("1723456784");
         socio2.setNombres("María");
         socio2.setApellidos("López");
 
-        SocioResponseDTO response2 = new SocioResponseDTO();
-        response2.setId(socio2.getId());
-        response2.setIdentificacion("1723456789");
-
         List<Socio> socios = Arrays.asList(socio, socio2);
 
-        when(socioRepository.findAll()).thenReturn(socios);
-        when(modelMapper.map(socio, SocioResponseDTO.class)).thenReturn(socioResponse);
-        when(modelMapper.map(socio2, SocioResponseDTO.class)).thenReturn(response2);
+        when(socioRepository.findPrimeraPagina(any(Pageable.class))).thenReturn(socios);
 
         // Act
-        List<SocioResponseDTO> resultado = socioService.obtenerTodosLosSocios();
+        PaginaSociosDTO resultado = socioService.obtenerTodosLosSocios(null, 50);
 
         // Assert
         assertNotNull(resultado);
-        assertEquals(2, resultado.size());
-        verify(socioRepository).findAll();
+        assertEquals(2, resultado.getSocios().size());
+        assertNull(resultado.getSiguienteCursor());
+        verify(socioRepository).findPrimeraPagina(PageRequest.ofSize(51));
     }
 
     @Test
     @DisplayName("Obtener todos los socios - Lista vacía")
     void obtenerTodosLosSocios_ListaVacia() {
         // Arrange
-        when(socioRepository.findAll()).thenReturn(Arrays.asList());
+        when(socioRepository.findPrimeraPagina(any(Pageable.class))).thenReturn(Arrays.asList());
 
         // Act
-        List<SocioResponseDTO> resultado = socioService.obtenerTodosLosSocios();
+        PaginaSociosDTO resultado = socioService.obtenerTodosLosSocios(null, 50);
 
         // Assert
         assertNotNull(resultado);
-        assertTrue(resultado.isEmpty());
-        verify(socioRepository).findAll();
+        assertTrue(resultado.getSocios().isEmpty());
+        assertNull(resultado.getSiguienteCursor());
+    }
+
+    @Test
+    @DisplayName("Obtener todos los socios - Genera cursor y continúa desde él")
+    void obtenerTodosLosSocios_CursorSiguientePagina() {
+        // Arrange
+        socio.setFechaCreacion(LocalDateTime.of(2024, 1, 15, 10, 30));
+        Socio socio2 = new Socio();
+        socio2.setId(UUID.randomUUID());
+        socio2.setFechaCreacion(LocalDateTime.of(2024, 1, 15, 10, 31));
+
+        when(socioRepository.findPrimeraPagina(PageRequest.ofSize(2))).thenReturn(Arrays.asList(socio, socio2));
+
+        // Act
+        PaginaSociosDTO primera = socioService.obtenerTodosLosSocios(null, 1);
+        socioService.obtenerTodosLosSocios(primera.getSiguienteCursor(), 1);
+
+        // Assert
+        assertEquals(1, primera.getSocios().size());
+        assertNotNull(primera.getSiguienteCursor());
+        verify(socioRepository).findPaginaDespuesDe(socio.getFechaCreacion(), socioId, PageRequest.ofSize(2));
+    }
+
+    @Test
+    @DisplayName("Obtener todos los socios - Cursor inválido")
+    void obtenerTodosLosSocios_CursorInvalido() {
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> socioService.obtenerTodosLosSocios("no-es-un-cursor", 50)
+        );
+
+        assertEquals("Cursor inválido", exception.getMessage());
+        verifyNoInteractions(socioRepository);
     }
 
     @Test
     @DisplayName("Eliminar socio - Exitoso")
     void eliminarSocio_Exitoso() {
         // Arrange
-        when(socioRepository.findById(socioId)).thenReturn(Optional.of(socio));
-        doNothing().when(socioRepository).deleteById(socioId);
+        when(socioRepository.desactivar(eq(socioId), any())).thenReturn(1);
+        cacheManager.getCache(CacheConfig.SOCIOS_POR_ID).put(socioId, socioResponse);
+        cacheManager.getCache(CacheConfig.SOCIOS_POR_IDENTIFICACION).put("1712345675", socioResponse);
+
+        // Act
+        socioService.eliminarSocio(socioId, null);
+
+        // Assert
+        verify(socioRepository).desactivar(eq(socioId), any());
+        verify(socioRepository, never()).findById(any());
+        verify(socioRepository, never()).deleteById(any());
+        assertNull(cacheManager.getCache(CacheConfig.SOCIOS_POR_ID).get(socioId));
+        assertNull(cacheManager.getCache(CacheConfig.SOCIOS_POR_IDENTIFICACION).get("1712345675"));
+        verify(socioOutboxService).registrar(eq(TipoEventoSocio.SOCIO_ELIMINADO), eq(socioId), any());
+    }
+
+    @Test
+    @DisplayName("Eliminar socio - If-Match con versión vigente")
+    void eliminarSocio_IfMatchVigente() {
+        // Arrange
+        when(socioRepository.desactivarSiVersion(eq(socioId), eq(2L), any())).thenReturn(1);
 
         // Act
-        socioService.eliminarSocio(socioId);
+        socioService.eliminarSocio(socioId, 2L);
 
         // Assert
-        verify(socioRepository).findById(socioId);
-        verify(socioRepository).deleteById(socioId);
+        verify(socioRepository, never()).desactivar(any(), any());
+        verify(socioOutboxService).registrar(eq(TipoEventoSocio.SOCIO_ELIMINADO), eq(socioId), any());
+    }
+
+    @Test
+    @DisplayName("Eliminar socio - If-Match con versión anterior")
+    void eliminarSocio_IfMatchDesactualizado() {
+        // Arrange
+        when(socioRepository.desactivarSiVersion(eq(socioId), eq(1L), any())).thenReturn(0);
+        when(socioRepository.existsByIdAndActivoTrue(socioId)).thenReturn(true);
+
+        // Act & Assert
+        assertThrows(VersionNoCoincideException.class, () -> socioService.eliminarSocio(socioId, 1L));
+        verifyNoInteractions(socioOutboxService);
+    }
+
+    @Test
+    @DisplayName("Eliminar todos - Vacía la caché")
+    void eliminarTodos_VaciaCache() {
+        // Arrange
+        cacheManager.getCache(CacheConfig.SOCIOS_POR_ID).put(socioId, socioResponse);
+        cacheManager.getCache(CacheConfig.SOCIOS_POR_IDENTIFICACION).put("1712345675", socioResponse);
+
+        // Act
+        socioService.eliminarTodos();
+
+        // Assert
+        verify(socioEliminadoRepository).registrarTodos(any());
+        verify(socioRepository).deleteAll();
+        assertNull(cacheManager.getCache(CacheConfig.SOCIOS_POR_ID).get(socioId));
+        assertNull(cacheManager.getCache(CacheConfig.SOCIOS_POR_IDENTIFICACION).get("1712345675"));
     }
 
     @Test
     @DisplayName("Eliminar socio - No encontrado")
     void eliminarSocio_NoEncontrado() {
         // Arrange
-        when(socioRepository.findById(socioId)).thenReturn(Optional.empty());
+        when(socioRepository.desactivar(eq(socioId), any())).thenReturn(0);
 
         // Act & Assert
         EntityNotFoundException exception = assertThrows(
                 EntityNotFoundException.class,
-                () -> socioService.eliminarSocio(socioId)
+                () -> socioService.eliminarSocio(socioId, null)
         );
 
         assertEquals("Socio no encontrado", exception.getMessage());
-        verify(socioRepository).findById(socioId);
-        verify(socioRepository, never()).deleteById(any());
+        verify(socioRepository).desactivar(eq(socioId), any());
+        verifyNoInteractions(socioOutboxService);
     }
 
     @Test
     @DisplayName("Obtener socio por identificación - Exitoso")
     void obtenerSocioPorIdentificacion_Exitoso() {
         // Arrange
-        String identificacion = "1712345678";
-        when(socioRepository.findByIdentificacion(identificacion)).thenReturn(Optional.of(socio));
-        when(modelMapper.map(socio, SocioResponseDTO.class)).thenReturn(socioResponse);
+        String identificacion = "1712345675";
+        when(socioRepository.findByIdentificacionAndActivoTrue(identificacion)).thenReturn(Optional.of(socio));
 
         // Act
         SocioResponseDTO resultado = socioService.obtenerSocioPorIdentificacion(identificacion);
@@ -290,15 +543,15 @@ class SocioServiceImplTest {
         // Assert
         assertNotNull(resultado);
         assertEquals(identificacion, resultado.getIdentificacion());
-        verify(socioRepository).findByIdentificacion(identificacion);
+        verify(socioRepository).findByIdentificacionAndActivoTrue(identificacion);
     }
 
     @Test
     @DisplayName("Obtener socio por identificación - No encontrado")
     void obtenerSocioPorIdentificacion_NoEncontrado() {
         // Arrange
-        String identificacion = "1712345678";
-        when(socioRepository.findByIdentificacion(identificacion)).thenReturn(Optional.empty());
+        String identificacion = "1712345675";
+        when(socioRepository.findByIdentificacionAndActivoTrue(identificacion)).thenReturn(Optional.empty());
 
         // Act & Assert
         EntityNotFoundException exception = assertThrows(
@@ -307,6 +560,100 @@ class SocioServiceImplTest {
         );
 
         assertEquals("Socio no encontrado", exception.getMessage());
-        verify(socioRepository).findByIdentificacion(identificacion);
+        verify(socioRepository).findByIdentificacionAndActivoTrue(identificacion);
+    }
+
+    @Test
+    @DisplayName("Obtener socio por identificación - El índice en memoria resuelve por clave primaria")
+    void obtenerSocioPorIdentificacion_DesdeIndice() {
+        // Arrange
+        String identificacion = "1712345675";
+        when(indiceIdentificaciones.buscar(identificacion)).thenReturn(socioId);
+        when(socioRepository.findById(socioId)).thenReturn(Optional.of(socio));
+
+        // Act
+        SocioResponseDTO resultado = socioService.obtenerSocioPorIdentificacion(identificacion);
+
+        // Assert
+        assertEquals(socioId, resultado.getId());
+        verify(socioRepository, never()).findByIdentificacionAndActivoTrue(any());
+        verify(indiceIdentificaciones, never()).descartar(any(), any());
+    }
+
+    @Test
+    @DisplayName("Obtener socio por identificación - Una entrada obsoleta del índice se descarta y se consulta la base")
+    void obtenerSocioPorIdentificacion_IndiceObsoleto() {
+        // Arrange
+        UUID otroId = UUID.randomUUID();
+        Socio otro = new Socio();
+        otro.setId(otroId);
+        otro.setIdentificacion("1718765439");
+        otro.setActivo(true);
+        String identificacion = "1712345675";
+        when(indiceIdentificaciones.buscar(identificacion)).thenReturn(otroId);
+        when(socioRepository.findById(otroId)).thenReturn(Optional.of(otro));
+        when(socioRepository.findByIdentificacionAndActivoTrue(identificacion)).thenReturn(Optional.of(socio));
+
+        // Act
+        SocioResponseDTO resultado = socioService.obtenerSocioPorIdentificacion(identificacion);
+
+        // Assert
+        assertEquals(socioId, resultado.getId());
+        verify(indiceIdentificaciones).descartar(identificacion, otroId);
+        verify(indiceIdentificaciones).registrar(identificacion, socioId);
+    }
+
+    @Test
+    @DisplayName("Obtener socio por identificación - Dado de baja según el índice, no encontrado")
+    void obtenerSocioPorIdentificacion_IndiceSocioInactivo() {
+        // Arrange
+        String identificacion = "1712345675";
+        socio.setActivo(false);
+        when(indiceIdentificaciones.buscar(identificacion)).thenReturn(socioId);
+        when(socioRepository.findById(socioId)).thenReturn(Optional.of(socio));
+
+        // Act & Assert
+        assertThrows(EntityNotFoundException.class, () -> socioService.obtenerSocioPorIdentificacion(identificacion));
+        verify(socioRepository, never()).findByIdentificacionAndActivoTrue(any());
+    }
+
+    @Test
+    @DisplayName("Buscar varios - Separa encontrados y faltantes sin repetir socios")
+    void buscarVarios_EncontradosYFaltantes() {
+        // Arrange
+        UUID idInexistente = UUID.randomUUID();
+        ConsultaMasivaRequestDTO consulta = new ConsultaMasivaRequestDTO();
+        consulta.setIds(List.of(socioId, idInexistente));
+        consulta.setIdentificaciones(List.of("1712345675", "9999999999"));
+        when(socioRepository.findByIdInAndActivoTrue(any())).thenReturn(List.of(socio));
+        when(socioRepository.findByIdentificacionInAndActivoTrue(any())).thenReturn(List.of(socio));
+
+        // Act
+        ConsultaMasivaResponseDTO resultado = socioService.buscarVarios(consulta);
+
+        // Assert
+        assertEquals(1, resultado.getEncontrados().size());
+        assertEquals(socioId, resultado.getEncontrados().get(0).getId());
+        assertEquals(List.of(idInexistente), resultado.getIdsNoEncontrados());
+        assertEquals(List.of("9999999999"), resultado.getIdentificacionesNoEncontradas());
+        verify(socioRepository, times(1)).findByIdInAndActivoTrue(any());
+        verify(socioRepository, times(1)).findByIdentificacionInAndActivoTrue(any());
+    }
+
+    @Test
+    @DisplayName("Buscar varios - Excede el máximo de claves")
+    void buscarVarios_ExcedeMaximo() {
+        // Arrange
+        ConsultaMasivaRequestDTO consulta = new ConsultaMasivaRequestDTO();
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < ConsultaMasivaRequestDTO.MAXIMO_CLAVES; i++) {
+            ids.add(UUID.randomUUID());
+        }
+        consulta.setIds(ids);
+        consulta.setIdentificaciones(List.of("1712345675"));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> socioService.buscarVarios(consulta));
+        verifyNoInteractions(socioRepository);
     }
 }
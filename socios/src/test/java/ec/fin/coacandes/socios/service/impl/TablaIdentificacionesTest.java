@@ -0,0 +1,147 @@
+package ec.fin.coacandes.socios.service.impl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TablaIdentificaciones - Pruebas Unitarias")
+class TablaIdentificacionesTest {
+
+    @Test
+    @DisplayName("Poner y buscar - Crece sin perder entradas")
+    void ponerYBuscar_CreceSinPerder() {
+        // Arrange
+        TablaIdentificaciones tabla = new TablaIdentificaciones(16);
+        Map<String, UUID> esperado = new HashMap<>();
+
+        // Act
+        for (int i = 0; i < 10_000; i++) {
+            String identificacion = Long.toString(1_700_000_000L + i * 7L);
+            UUID id = UUID.randomUUID();
+            tabla.poner(identificacion, id);
+            esperado.put(identificacion, id);
+        }
+
+        // Assert
+        assertEquals(10_000, tabla.tamanio());
+        esperado.forEach((identificacion, id) -> assertEquals(id, tabla.buscar(identificacion)));
+        assertNull(tabla.buscar("1800000000"));
+        // 16384 posiciones de 24 bytes para 10 000 entradas con carga máxima 0,75
+        assertEquals(16_384 * 24L, tabla.bytes());
+    }
+
+    @Test
+    @DisplayName("Claves - Los ceros a la izquierda y la longitud distinguen identificaciones")
+    void claves_LongitudDistingue() {
+        // Arrange
+        TablaIdentificaciones tabla = new TablaIdentificaciones(16);
+        UUID conCero = UUID.randomUUID();
+        UUID sinCero = UUID.randomUUID();
+
+        // Act
+        tabla.poner("0102030400", conCero);
+        tabla.poner("102030400", sinCero);
+
+        // Assert
+        assertEquals(conCero, tabla.buscar("0102030400"));
+        assertEquals(sinCero, tabla.buscar("102030400"));
+        assertFalse(tabla.poner("17123A5675", UUID.randomUUID()));
+        assertFalse(tabla.poner("1234567890123456", UUID.randomUUID()));
+        assertNull(tabla.buscar(""));
+        assertNull(tabla.buscar(null));
+    }
+
+    @Test
+    @DisplayName("Poner - Reasigna una identificación existente sin duplicarla")
+    void poner_Reasigna() {
+        // Arrange
+        TablaIdentificaciones tabla = new TablaIdentificaciones(16);
+        UUID nuevo = UUID.randomUUID();
+        tabla.poner("1712345675", UUID.randomUUID());
+
+        // Act
+        tabla.poner("1712345675", nuevo);
+
+        // Assert
+        assertEquals(nuevo, tabla.buscar("1712345675"));
+        assertEquals(1, tabla.tamanio());
+    }
+
+    @Test
+    @DisplayName("Quitar - Solo si la identificación sigue asociada a ese id")
+    void quitar_SoloMismoId() {
+        // Arrange
+        TablaIdentificaciones tabla = new TablaIdentificaciones(16);
+        UUID id = UUID.randomUUID();
+        tabla.poner("1712345675", id);
+
+        // Act
+        tabla.quitar("1712345675", UUID.randomUUID());
+        UUID trasOtroId = tabla.buscar("1712345675");
+        tabla.quitar("1712345675", id);
+
+        // Assert
+        assertEquals(id, trasOtroId);
+        assertNull(tabla.buscar("1712345675"));
+        assertEquals(0, tabla.tamanio());
+    }
+
+    @Test
+    @DisplayName("Quitar - El desplazamiento hacia atrás conserva las demás entradas")
+    void quitar_ConservaDemasEntradas() {
+        // Arrange
+        Random aleatorio = new Random(42);
+        TablaIdentificaciones tabla = new TablaIdentificaciones(1_000);
+        Map<String, UUID> esperado = new HashMap<>();
+        List<String> claves = new ArrayList<>();
+
+        // Act: inserciones y bajas mezcladas con la tabla cerca de su carga máxima
+        for (int i = 0; i < 50_000; i++) {
+            if (!claves.isEmpty() && aleatorio.nextInt(3) == 0) {
+                String identificacion = claves.remove(aleatorio.nextInt(claves.size()));
+                tabla.quitar(identificacion, esperado.remove(identificacion));
+            } else if (claves.size() < 1_000) {
+                String identificacion = Long.toString(1_700_000_000L + aleatorio.nextInt(5_000));
+                UUID id = UUID.randomUUID();
+                if (esperado.put(identificacion, id) == null) {
+                    claves.add(identificacion);
+                }
+                tabla.poner(identificacion, id);
+            }
+        }
+
+        // Assert
+        assertEquals(esperado.size(), tabla.tamanio());
+        esperado.forEach((identificacion, id) -> assertEquals(id, tabla.buscar(identificacion)));
+        for (int i = 0; i < 5_000; i++) {
+            String identificacion = Long.toString(1_700_000_000L + i);
+            if (!esperado.containsKey(identificacion)) {
+                assertNull(tabla.buscar(identificacion));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Reservar - Agranda de una vez para la carga esperada")
+    void reservar_Agranda() {
+        // Arrange
+        TablaIdentificaciones tabla = new TablaIdentificaciones(16);
+        UUID id = UUID.randomUUID();
+        tabla.poner("1712345675", id);
+
+        // Act
+        tabla.reservar(1_000_000);
+
+        // Assert: 1 000 000 / 0,75 redondeado a la siguiente potencia de dos
+        assertEquals((1 << 21) * 24L, tabla.bytes());
+        assertEquals(id, tabla.buscar("1712345675"));
+    }
+}
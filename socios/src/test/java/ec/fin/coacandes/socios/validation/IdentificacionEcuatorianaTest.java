@@ -0,0 +1,61 @@
+package ec.fin.coacandes.socios.validation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("IdentificacionEcuatoriana - Pruebas Unitarias")
+class IdentificacionEcuatorianaTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"1712345675", "0102030400", "2400000002", "3000000004", "1701234567"})
+    @DisplayName("Cédulas válidas")
+    void cedulasValidas(String cedula) {
+        assertTrue(IdentificacionEcuatoriana.esCedulaValida(cedula));
+        assertTrue(IdentificacionEcuatoriana.esValida(cedula, "CEDULA"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"1712345678", "171234567", "17123456750", "171234567A", "2500000005",
+            "0000000000", "1762345675", "", " 712345675"})
+    @DisplayName("Cédulas inválidas: verificador, longitud, caracteres, provincia o tercer dígito")
+    void cedulasInvalidas(String cedula) {
+        assertFalse(IdentificacionEcuatoriana.esCedulaValida(cedula));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"1712345675001", "1790123456001", "1760001550001", "1795678901001"})
+    @DisplayName("RUC válidos: persona natural, sociedad privada y sociedad pública")
+    void rucValidos(String ruc) {
+        assertTrue(IdentificacionEcuatoriana.esRucValido(ruc));
+        assertTrue(IdentificacionEcuatoriana.esValida(ruc, "RUC"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"1712345675000", "1712345678001", "1790123457001", "1790123456000",
+            "1760001560001", "1760001550000", "1780123456001", "179012345600"})
+    @DisplayName("RUC inválidos: verificador, establecimiento, tercer dígito o longitud")
+    void rucInvalidos(String ruc) {
+        assertFalse(IdentificacionEcuatoriana.esRucValido(ruc));
+    }
+
+    @Test
+    @DisplayName("El tipo decide la regla aplicada")
+    void tipoDecideRegla() {
+        assertFalse(IdentificacionEcuatoriana.esValida("1712345675001", "CEDULA"));
+        assertFalse(IdentificacionEcuatoriana.esValida("1712345675", "RUC"));
+        assertFalse(IdentificacionEcuatoriana.esValida("1712345675", "PASAPORTE"));
+        assertFalse(IdentificacionEcuatoriana.esValida("1712345675", null));
+        assertFalse(IdentificacionEcuatoriana.esValida(null, "CEDULA"));
+    }
+
+    @Test
+    @DisplayName("Dígito verificador de cédula")
+    void digitoVerificadorCedula() {
+        assertEquals(5, IdentificacionEcuatoriana.digitoVerificadorCedula("171234567"));
+        assertEquals(9, IdentificacionEcuatoriana.digitoVerificadorCedula("010000000"));
+    }
+}